@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Set operations between two lists of property keys sharing half of their elements, the time per operation should
+ * grow linearly with their size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class IterablesBenchmark {
+
+  @Param({"10", "1000", "100000"})
+  public int size;
+
+  private List<String> left;
+  private List<String> right;
+
+  @Setup(Level.Trial)
+  public void createKeys() {
+    left = new ArrayList<>(size);
+    right = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      left.add("key" + i);
+      right.add("key" + (i + size / 2));
+    }
+  }
+
+  @Benchmark
+  public List<String> difference() {
+    return Iterables.difference(left, right);
+  }
+
+  @Benchmark
+  public List<String> intersection() {
+    return Iterables.intersection(left, right);
+  }
+}
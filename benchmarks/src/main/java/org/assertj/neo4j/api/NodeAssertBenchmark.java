@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.neo4j.benchmarks.ImpermanentGraph;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+
+/**
+ * Checks the label of a node by name, with a transaction begun for every check or shared through an
+ * {@link AssertionSession}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class NodeAssertBenchmark {
+
+  private Node node;
+
+  @Setup(Level.Trial)
+  public void createNode(ImpermanentGraph graph) {
+    try (Transaction transaction = graph.graph.beginTx()) {
+      node = graph.graph.createNode(Label.label("DOUGHNUT"));
+      transaction.success();
+    }
+  }
+
+  @Benchmark
+  public NodeAssert hasLabelWithTransactionPerCheck() {
+    return assertThat(node).hasLabel("DOUGHNUT");
+  }
+
+  @Benchmark
+  public NodeAssert hasLabelInSession(Session session) {
+    return assertThat(node).hasLabel("DOUGHNUT");
+  }
+
+  @State(Scope.Thread)
+  public static class Session {
+
+    private AssertionSession session;
+
+    @Setup(Level.Iteration)
+    public void open(ImpermanentGraph graph) {
+      session = AssertionSession.open(graph.graph);
+    }
+
+    @TearDown(Level.Iteration)
+    public void close() {
+      session.close();
+    }
+  }
+}
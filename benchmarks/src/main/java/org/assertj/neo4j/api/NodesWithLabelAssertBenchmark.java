@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.neo4j.benchmarks.ImpermanentGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+
+/**
+ * Checks all the nodes with a label of a seeded Barabasi-Albert graph, the same on every run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NodesWithLabelAssertBenchmark {
+
+  @Param({ "100000" })
+  public int nodeCount;
+
+  @Setup(Level.Trial)
+  public void generateGraph(ImpermanentGraph graph) {
+    SyntheticGraph.barabasiAlbert(nodeCount, 3)
+                  .withSeed(42)
+                  .withLabel("PERSON", 1.0)
+                  .withNodeProperty("age", random -> 18 + random.nextInt(80))
+                  .withNodeProperty("ssn", random -> Long.toString(random.nextLong() & Long.MAX_VALUE, 36))
+                  .writeTo(graph.graph, 10_000);
+  }
+
+  @Benchmark
+  public NodesWithLabelAssert allHavePropertyKey(ImpermanentGraph graph) {
+    return assertThat(graph.graph).nodesWithLabel("PERSON").allHavePropertyKey("age");
+  }
+
+  @Benchmark
+  public NodesWithLabelAssert allSatisfyHasLabel(ImpermanentGraph graph) {
+    return assertThat(graph.graph).nodesWithLabel("PERSON").allSatisfy(node -> assertThat(node).hasLabel("PERSON"));
+  }
+
+  @Benchmark
+  public NodesWithLabelAssert haveUniqueValuesFor(ImpermanentGraph graph) {
+    return assertThat(graph.graph).nodesWithLabel("PERSON").haveUniqueValuesFor("ssn");
+  }
+}
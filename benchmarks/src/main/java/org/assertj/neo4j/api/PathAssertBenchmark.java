@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.neo4j.benchmarks.ImpermanentGraph;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Path;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+
+/**
+ * Goes through all the entities of a path to check its length, its end and one of its nodes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class PathAssertBenchmark {
+
+  @Param({"10", "1000"})
+  public int length;
+
+  private Path path;
+  private Node middle;
+  private GraphDatabaseService graph;
+  private Transaction transaction;
+
+  @Setup(Level.Trial)
+  public void createPath(ImpermanentGraph impermanentGraph) {
+    graph = impermanentGraph.graph;
+    try (Transaction transaction = graph.beginTx()) {
+      Node previous = graph.createNode(Label.label("DOUGHNUT"));
+      previous.setProperty("rank", 0);
+      for (int rank = 1; rank <= length; rank++) {
+        Node next = graph.createNode(Label.label("DOUGHNUT"));
+        next.setProperty("rank", rank);
+        previous.createRelationshipTo(next, RelationshipType.withName("NEXT"));
+        previous = next;
+        if (rank == length / 2) {
+          middle = next;
+        }
+      }
+      path = (Path) graph.execute("MATCH p = (:DOUGHNUT {rank: 0})-[:NEXT*]->(:DOUGHNUT {rank: {length}}) " +
+                                  "RETURN p", Collections.singletonMap("length", length)).next().get("p");
+      transaction.success();
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void beginTransaction() {
+    transaction = graph.beginTx();
+  }
+
+  @TearDown(Level.Iteration)
+  public void closeTransaction() {
+    transaction.close();
+  }
+
+  @Benchmark
+  public Object iterate() {
+    return assertThat(path).hasLength(length).endsWithNode(path.endNode()).contains(middle);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.neo4j.benchmarks.ImpermanentGraph;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+
+/**
+ * Checks a property of a node, in a transaction open for the whole iteration.
+ * <p>
+ * The array property is compared against a copy, element by element. Several properties are checked either one key
+ * at a time or all at once.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class PropertyContainerAssertBenchmark {
+
+  private static final int SAMPLE_COUNT = 100_000;
+
+  private Node node;
+  private long[] samples;
+  private Map<String, Object> properties;
+  private GraphDatabaseService graph;
+  private Transaction transaction;
+
+  @Setup(Level.Trial)
+  public void createNode(ImpermanentGraph impermanentGraph) {
+    graph = impermanentGraph.graph;
+    try (Transaction transaction = graph.beginTx()) {
+      node = graph.createNode();
+      node.setProperty("flavour", "chocolate");
+      node.setProperty("weight", 80);
+      node.setProperty("glazed", true);
+      properties = new HashMap<>();
+      properties.put("flavour", "chocolate");
+      properties.put("weight", 80);
+      properties.put("glazed", true);
+      samples = new long[SAMPLE_COUNT];
+      for (int i = 0; i < SAMPLE_COUNT; i++) {
+        samples[i] = i * 31L;
+      }
+      node.setProperty("samples", samples);
+      transaction.success();
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void beginTransaction() {
+    transaction = graph.beginTx();
+  }
+
+  @TearDown(Level.Iteration)
+  public void closeTransaction() {
+    transaction.close();
+  }
+
+  @Benchmark
+  public NodeAssert hasStringProperty() {
+    return assertThat(node).hasProperty("flavour", "chocolate");
+  }
+
+  @Benchmark
+  public NodeAssert hasLongArrayProperty() {
+    return assertThat(node).hasProperty("samples", samples);
+  }
+
+  @Benchmark
+  public NodeAssert hasPropertiesOneAtATime() {
+    return assertThat(node).hasProperty("flavour", "chocolate").hasProperty("weight", 80).hasProperty("glazed", true);
+  }
+
+  @Benchmark
+  public NodeAssert hasPropertiesAtOnce() {
+    return assertThat(node).hasProperties(properties);
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.neo4j.benchmarks.ImpermanentGraph;
+import org.neo4j.graphdb.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+
+/**
+ * Reads all the rows of a {@link Result} through {@link ResultAssert}, materialized or streamed.
+ * <p>
+ * {@link #allMatchIterating} tests a predicate the way streaming assertions did before visiting rows, one map per row
+ * through {@link Result#next()}, for {@link #allMatchVisiting} to be compared against. Run through
+ * {@link org.assertj.neo4j.benchmarks.BenchmarkRunner} to get their allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultAssertBenchmark {
+
+  private static final String QUERY = "UNWIND range(1, {rows}) AS i RETURN i, 'flavour ' + (i % 100) AS flavour";
+
+  @Param({"10000", "1000000"})
+  public int rows;
+
+  @Benchmark
+  public Object materialized(ImpermanentGraph graph) {
+    return assertThat(execute(graph)).hasSize(rows);
+  }
+
+  @Benchmark
+  public StreamingResultAssert streaming(ImpermanentGraph graph) {
+    return assertThat(execute(graph)).streaming().hasRowCount(rows);
+  }
+
+  @Benchmark
+  public boolean allMatchIterating(ImpermanentGraph graph) {
+    try (Result result = execute(graph)) {
+      while (result.hasNext()) {
+        if (((Number) result.next().get("i")).longValue() <= 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  @Benchmark
+  public StreamingResultAssert allMatchVisiting(ImpermanentGraph graph) {
+    try (Result result = execute(graph)) {
+      return assertThat(result).streaming().allMatch(row -> ((Number) row.get("i")).longValue() > 0);
+    }
+  }
+
+  @Benchmark
+  public StreamingResultAssert anyMatchFirstRow(ImpermanentGraph graph) {
+    try (Result result = execute(graph)) {
+      return assertThat(result).streaming().anyMatch(row -> ((Number) row.get("i")).longValue() == 1);
+    }
+  }
+
+  private Result execute(ImpermanentGraph graph) {
+    return graph.graph.execute(QUERY, Collections.singletonMap("rows", rows));
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Transaction;
+
+import java.util.function.Supplier;
+
+/**
+ * Read transaction shared by all the assertions run on the current thread against one {@link GraphDatabaseService},
+ * so that long assertion chains and bulk checks do not begin and close a transaction for every check.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+ *
+ * try (AssertionSession ignored = AssertionSession.open(graph)) {
+ *   for (Node node : doughnuts) {
+ *     assertThat(node).hasLabel(&quot;DOUGHNUT&quot;).hasPropertyKey(&quot;flavour&quot;);
+ *   }
+ * }
+ * </pre>
+ *
+ * As Neo4j transactions, sessions are bound to the thread that opened them. The transaction is never marked as
+ * successful, nothing written while the session is open is committed.
+ */
+public final class AssertionSession implements AutoCloseable {
+
+  private static final ThreadLocal<AssertionSession> CURRENT = new ThreadLocal<>();
+
+  private final GraphDatabaseService graph;
+  private final Transaction transaction;
+
+  private AssertionSession(GraphDatabaseService graph, Transaction transaction) {
+    this.graph = graph;
+    this.transaction = transaction;
+  }
+
+  /**
+   * Opens a session on the given {@link GraphDatabaseService} for the current thread.
+   *
+   * @param graph the {@link GraphDatabaseService} the assertions of the session run against
+   * @return the opened session, to be closed once the assertions have run
+   *
+   * @throws IllegalArgumentException if <code>graph</code> is {@code null}.
+   * @throws IllegalStateException if a session is already open on the current thread.
+   */
+  public static AssertionSession open(GraphDatabaseService graph) {
+    if (graph == null) {
+      throw new IllegalArgumentException("The graph database to open a session on should not be null");
+    }
+    if (CURRENT.get() != null) {
+      throw new IllegalStateException("An assertion session is already open on the current thread");
+    }
+    AssertionSession session = new AssertionSession(graph, graph.beginTx());
+    CURRENT.set(session);
+    return session;
+  }
+
+  /**
+   * Runs the given work in the transaction of the session open on the given {@link GraphDatabaseService} if any, in a
+   * transaction of its own otherwise. Work on snapshots, detached from any database, runs without transaction.
+   */
+  static <T> T inTransaction(GraphDatabaseService graph, Supplier<T> work) {
+    if (graph == null) {
+      return work.get();
+    }
+    AssertionSession session = CURRENT.get();
+    if (session != null && session.graph == graph) {
+      return work.get();
+    }
+    try (Transaction ignored = graph.beginTx()) {
+      return work.get();
+    }
+  }
+
+  @Override
+  public void close() {
+    if (CURRENT.get() == this) {
+      CURRENT.remove();
+    }
+    transaction.close();
+  }
+}
@@ -12,6 +12,8 @@
  */
 package org.assertj.neo4j.api;
 
+import org.neo4j.graphdb.ExecutionPlanDescription;
+import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Path;
 import org.neo4j.graphdb.PropertyContainer;
@@ -20,6 +22,9 @@ import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.Result;
 import org.neo4j.graphdb.schema.ConstraintDefinition;
 import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema;
+
+import java.util.Map;
 
 /**
  * The entry point for all Neo4j assertions.
@@ -67,4 +72,46 @@ public class Assertions implements InstanceOfAssertFactories {
   public static QueryStatisticsAssert assertThat(QueryStatistics queryStatistics) {
     return new QueryStatisticsAssert(queryStatistics);
   }
+
+  public static ExecutionPlanAssert assertThat(ExecutionPlanDescription executionPlanDescription) {
+    return new ExecutionPlanAssert(executionPlanDescription);
+  }
+
+  public static GraphDatabaseServiceAssert assertThat(GraphDatabaseService graphDatabaseService) {
+    return new GraphDatabaseServiceAssert(graphDatabaseService);
+  }
+
+  public static GraphChangesAssert assertThat(GraphChanges graphChanges) {
+    return new GraphChangesAssert(graphChanges);
+  }
+
+  public static SchemaAssert assertThat(Schema schema) {
+    return new SchemaAssert(schema);
+  }
+
+  /**
+   * Wraps the given {@link GraphDatabaseService} so that the Cypher queries executed through it can be counted by
+   * {@link GraphDatabaseServiceAssert#whileRunning(Runnable)}. The code under test should be given the returned
+   * {@link GraphDatabaseService}.
+   *
+   * @param graph the {@link GraphDatabaseService} to wrap
+   * @return the {@link GraphDatabaseService} counting queries
+   *
+   * @throws IllegalArgumentException if <code>graph</code> is {@code null}.
+   */
+  public static GraphDatabaseService countingQueries(GraphDatabaseService graph) {
+    if (graph == null) {
+      throw new IllegalArgumentException("The graph database to count the queries of should not be null");
+    }
+    return new QueryCountingGraphDatabaseService(graph);
+  }
+
+  public static QueryLatencyAssert assertThatQuery(GraphDatabaseService graph, String query) {
+    return new QueryLatencyAssert(graph, query, null);
+  }
+
+  public static QueryLatencyAssert assertThatQuery(GraphDatabaseService graph, String query,
+                                                   Map<String, Object> parameters) {
+    return new QueryLatencyAssert(graph, query, parameters);
+  }
 }
@@ -0,0 +1,333 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented copy of {@link org.neo4j.graphdb.Result} rows.
+ * <p>
+ * Each column is stored in one array typed after its values: {@code long[]} for integers, {@code double[]} for floats,
+ * bits for booleans and dictionary codes for strings. Other values, nodes and relationships included, are kept as they
+ * are in an {@code Object[]}, which a column also falls back to as soon as a value does not fit its type. Rows are
+ * rebuilt as read-only maps every time they are read, and never kept.
+ */
+class ColumnarRows {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final List<String> names = new ArrayList<>();
+  private final List<Column> columns = new ArrayList<>();
+  private final List<BitSet> absences = new ArrayList<>();
+  private int size;
+
+  void add(Map<String, Object> row) {
+    int matchedColumns = 0;
+    for (int i = 0; i < names.size(); i++) {
+      String name = names.get(i);
+      Object value = row.get(name);
+      if (value != null || row.containsKey(name)) {
+        matchedColumns++;
+      } else {
+        absence(i).set(size);
+      }
+      columns.set(i, columns.get(i).add(value));
+    }
+    if (matchedColumns < row.size()) {
+      addNewColumns(row);
+    }
+    size++;
+  }
+
+  int size() {
+    return size;
+  }
+
+  Map<String, Object> get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    Map<String, Object> row = new LinkedHashMap<>();
+    for (int i = 0; i < names.size(); i++) {
+      BitSet absence = absences.get(i);
+      if (absence == null || !absence.get(index)) {
+        row.put(names.get(i), columns.get(i).get(index));
+      }
+    }
+    return Collections.unmodifiableMap(row);
+  }
+
+  private void addNewColumns(Map<String, Object> row) {
+    for (Map.Entry<String, Object> entry : row.entrySet()) {
+      if (!names.contains(entry.getKey())) {
+        Column column = new NullColumn();
+        BitSet absence = null;
+        if (size > 0) {
+          absence = new BitSet();
+          absence.set(0, size);
+          for (int i = 0; i < size; i++) {
+            column = column.add(null);
+          }
+        }
+        names.add(entry.getKey());
+        columns.add(column.add(entry.getValue()));
+        absences.add(absence);
+      }
+    }
+  }
+
+  private BitSet absence(int column) {
+    BitSet absence = absences.get(column);
+    if (absence == null) {
+      absence = new BitSet();
+      absences.set(column, absence);
+    }
+    return absence;
+  }
+
+  private abstract static class Column {
+
+    int size;
+
+    abstract Object get(int row);
+
+    abstract boolean accepts(Object value);
+
+    abstract void append(Object value);
+
+    Column add(Object value) {
+      Column column = accepts(value) ? this : widen(value);
+      column.append(value);
+      column.size++;
+      return column;
+    }
+
+    Column widen(Object value) {
+      Column column = new ObjectColumn(Math.max(INITIAL_CAPACITY, size + 1));
+      for (int row = 0; row < size; row++) {
+        column.add(get(row));
+      }
+      return column;
+    }
+
+    static int grow(int capacity) {
+      return capacity + (capacity >> 1) + 1;
+    }
+  }
+
+  /**
+   * Column whose values have all been {@code null} so far, replaced by a typed one on the first actual value.
+   */
+  private static final class NullColumn extends Column {
+
+    @Override
+    Object get(int row) {
+      return null;
+    }
+
+    @Override
+    boolean accepts(Object value) {
+      return value == null;
+    }
+
+    @Override
+    void append(Object value) {
+      // only counted
+    }
+
+    @Override
+    Column widen(Object value) {
+      Column column = typedColumn(value);
+      for (int row = 0; row < size; row++) {
+        column.add(null);
+      }
+      return column;
+    }
+
+    private static Column typedColumn(Object value) {
+      if (value instanceof Long) {
+        return new LongColumn();
+      }
+      if (value instanceof Double) {
+        return new DoubleColumn();
+      }
+      if (value instanceof Boolean) {
+        return new BooleanColumn();
+      }
+      if (value instanceof String) {
+        return new StringColumn();
+      }
+      return new ObjectColumn(INITIAL_CAPACITY);
+    }
+  }
+
+  private static final class ObjectColumn extends Column {
+
+    private Object[] values;
+
+    private ObjectColumn(int capacity) {
+      values = new Object[capacity];
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+
+    @Override
+    boolean accepts(Object value) {
+      return true;
+    }
+
+    @Override
+    void append(Object value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow(values.length));
+      }
+      values[size] = value;
+    }
+  }
+
+  private static final class LongColumn extends Column {
+
+    private final BitSet nulls = new BitSet();
+    private long[] values = new long[INITIAL_CAPACITY];
+
+    @Override
+    Object get(int row) {
+      return nulls.get(row) ? null : values[row];
+    }
+
+    @Override
+    boolean accepts(Object value) {
+      return value == null || value instanceof Long;
+    }
+
+    @Override
+    void append(Object value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow(values.length));
+      }
+      if (value == null) {
+        nulls.set(size);
+      } else {
+        values[size] = (Long) value;
+      }
+    }
+  }
+
+  private static final class DoubleColumn extends Column {
+
+    private final BitSet nulls = new BitSet();
+    private double[] values = new double[INITIAL_CAPACITY];
+
+    @Override
+    Object get(int row) {
+      return nulls.get(row) ? null : values[row];
+    }
+
+    @Override
+    boolean accepts(Object value) {
+      return value == null || value instanceof Double;
+    }
+
+    @Override
+    void append(Object value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow(values.length));
+      }
+      if (value == null) {
+        nulls.set(size);
+      } else {
+        values[size] = (Double) value;
+      }
+    }
+  }
+
+  private static final class BooleanColumn extends Column {
+
+    private final BitSet nulls = new BitSet();
+    private final BitSet values = new BitSet();
+
+    @Override
+    Object get(int row) {
+      return nulls.get(row) ? null : values.get(row);
+    }
+
+    @Override
+    boolean accepts(Object value) {
+      return value == null || value instanceof Boolean;
+    }
+
+    @Override
+    void append(Object value) {
+      if (value == null) {
+        nulls.set(size);
+      } else {
+        values.set(size, (Boolean) value);
+      }
+    }
+  }
+
+  /**
+   * Strings are stored once in a dictionary, each row only keeps the code of its value. Columns with too many distinct
+   * strings for the dictionary to pay off fall back to plain references.
+   */
+  private static final class StringColumn extends Column {
+
+    private static final int NULL_CODE = -1;
+    private static final int MIN_DICTIONARY_SIZE_CHECK = 1 << 16;
+
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Integer> codes = new HashMap<>();
+    private int[] values = new int[INITIAL_CAPACITY];
+
+    @Override
+    Object get(int row) {
+      int code = values[row];
+      return code == NULL_CODE ? null : dictionary.get(code);
+    }
+
+    @Override
+    boolean accepts(Object value) {
+      if (value == null) {
+        return true;
+      }
+      if (!(value instanceof String)) {
+        return false;
+      }
+      return dictionary.size() < MIN_DICTIONARY_SIZE_CHECK || dictionary.size() < size / 2
+             || codes.containsKey(value);
+    }
+
+    @Override
+    void append(Object value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow(values.length));
+      }
+      values[size] = value == null ? NULL_CODE : codes.computeIfAbsent((String) value, this::newCode);
+    }
+
+    private Integer newCode(String value) {
+      dictionary.add(value);
+      return dictionary.size() - 1;
+    }
+  }
+}
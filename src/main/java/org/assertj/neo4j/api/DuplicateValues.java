@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Finds the nodes with a label sharing the same values for some property keys, without keeping the values of every
+ * node in memory.
+ * <p>
+ * A first scan computes a 64 bits fingerprint of the values of each node, which are kept in a primitive array then
+ * sorted to find the fingerprints seen more than once. A second scan reads again the values of the nodes with such
+ * fingerprints only, and groups the nodes with the very same values. Nodes missing any of the keys are ignored, as
+ * uniqueness constraints do.
+ */
+class DuplicateValues {
+
+  private static final long MISSING = -1;
+
+  private final GraphDatabaseService graph;
+  private final Label label;
+  private final String[] keys;
+  private final ForkJoinPool pool;
+
+  DuplicateValues(GraphDatabaseService graph, Label label, String[] keys, ForkJoinPool pool) {
+    this.graph = graph;
+    this.label = label;
+    this.keys = keys;
+    this.pool = pool;
+  }
+
+  /**
+   * Returns the ids of the nodes sharing values, in ascending order, each group starting with the smallest id.
+   */
+  List<long[]> find() {
+    LongSet repeated = repeatedFingerprints(scan().values(this::fingerprint));
+    if (repeated.size() == 0) {
+      return new ArrayList<>();
+    }
+    Map<Values, LongSet> nodesByValues = new ConcurrentHashMap<>();
+    scan().forEach(node -> {
+      Object[] values = values(node);
+      if (values != null && repeated.contains(fingerprint(values))) {
+        nodesByValues.compute(new Values(values), (ignored, ids) -> {
+          LongSet nodes = ids == null ? new LongSet() : ids;
+          nodes.add(node.getId());
+          return nodes;
+        });
+      }
+    });
+    List<long[]> duplicates = new ArrayList<>();
+    for (LongSet ids : nodesByValues.values()) {
+      if (ids.size() > 1) {
+        duplicates.add(ids.toArray());
+      }
+    }
+    duplicates.sort(Comparator.comparingLong(ids -> ids[0]));
+    return duplicates;
+  }
+
+  /**
+   * Returns the values of the given node for the keys, by key.
+   */
+  Map<String, Object> valuesOf(Node node) {
+    Map<String, Object> values = new LinkedHashMap<>();
+    Object[] properties = values(node);
+    for (int i = 0; i < keys.length; i++) {
+      values.put(keys[i], properties == null ? null : properties[i]);
+    }
+    return values;
+  }
+
+  private NodeScan scan() {
+    return new NodeScan(graph, label, Integer.MAX_VALUE, pool);
+  }
+
+  private static LongSet repeatedFingerprints(long[] fingerprints) {
+    Arrays.parallelSort(fingerprints);
+    LongSet repeated = new LongSet();
+    for (int i = 1; i < fingerprints.length; i++) {
+      if (fingerprints[i] == fingerprints[i - 1]) {
+        repeated.add(fingerprints[i]);
+      }
+    }
+    return repeated;
+  }
+
+  private long fingerprint(Node node) {
+    Object[] values = values(node);
+    return values == null ? MISSING : fingerprint(values);
+  }
+
+  private static long fingerprint(Object[] values) {
+    long hash = 0;
+    for (Object value : values) {
+      hash = PropertyValues.mix(hash + PropertyValues.fingerprint(value));
+    }
+    return hash & Long.MAX_VALUE;
+  }
+
+  private Object[] values(Node node) {
+    Map<String, Object> properties = node.getProperties(keys);
+    if (properties.size() < keys.length) {
+      return null;
+    }
+    Object[] values = new Object[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      values[i] = properties.get(keys[i]);
+    }
+    return values;
+  }
+
+  /**
+   * Values of a node, compared as a uniqueness constraint does: numbers by value whatever their type, arrays by
+   * content.
+   */
+  private static final class Values {
+
+    private final Object[] values;
+
+    private Values(Object[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Values)) {
+        return false;
+      }
+      Object[] otherValues = ((Values) other).values;
+      for (int i = 0; i < values.length; i++) {
+        if (!PropertyValues.sameValue(values[i], otherValues[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(fingerprint(values));
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.NotFoundException;
+import org.neo4j.graphdb.PropertyContainer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable copy of the properties of a node or relationship, read once in a transaction. Snapshots are detached from
+ * their database: they are read without transaction and cannot be written.
+ */
+abstract class EntitySnapshot implements PropertyContainer {
+
+  private final long id;
+  private final String[] keys;
+  private final Object[] values;
+
+  EntitySnapshot(long id, Map<String, Object> properties) {
+    this.id = id;
+    this.keys = new String[properties.size()];
+    this.values = new Object[properties.size()];
+    int i = 0;
+    for (Map.Entry<String, Object> property : properties.entrySet()) {
+      keys[i] = property.getKey();
+      values[i++] = property.getValue();
+    }
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  @Override
+  public GraphDatabaseService getGraphDatabase() {
+    return null;
+  }
+
+  @Override
+  public boolean hasProperty(String key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public Object getProperty(String key) {
+    int index = indexOf(key);
+    if (index < 0) {
+      throw new NotFoundException(String.format("No such property, '%s'.", key));
+    }
+    return values[index];
+  }
+
+  @Override
+  public Object getProperty(String key, Object defaultValue) {
+    int index = indexOf(key);
+    return index < 0 ? defaultValue : values[index];
+  }
+
+  @Override
+  public Iterable<String> getPropertyKeys() {
+    return Collections.unmodifiableList(Arrays.asList(keys));
+  }
+
+  @Override
+  public Map<String, Object> getProperties(String... keys) {
+    Map<String, Object> properties = new HashMap<>();
+    for (String key : keys) {
+      int index = indexOf(key);
+      if (index >= 0) {
+        properties.put(key, values[index]);
+      }
+    }
+    return properties;
+  }
+
+  @Override
+  public Map<String, Object> getAllProperties() {
+    return getProperties(keys);
+  }
+
+  @Override
+  public void setProperty(String key, Object value) {
+    throw readOnly();
+  }
+
+  @Override
+  public Object removeProperty(String key) {
+    throw readOnly();
+  }
+
+  public void delete() {
+    throw readOnly();
+  }
+
+  static UnsupportedOperationException readOnly() {
+    return new UnsupportedOperationException("Snapshots cannot be written");
+  }
+
+  static UnsupportedOperationException notSnapshotted() {
+    return new UnsupportedOperationException("Snapshots do not hold relationships, only their types and counts");
+  }
+
+  private int indexOf(String key) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i].equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
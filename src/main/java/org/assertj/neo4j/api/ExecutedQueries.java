@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cypher queries executed while running some code, counted by query text along with the time spent executing them.
+ * <p>
+ * Only the time spent in {@link org.neo4j.graphdb.GraphDatabaseService#execute(String)} is accounted for, the rows of a
+ * {@link org.neo4j.graphdb.Result} are mostly computed later, as they are read.
+ */
+public final class ExecutedQueries {
+
+  private final Map<String, long[]> countsAndNanosByQuery = new LinkedHashMap<>();
+  private int count;
+
+  ExecutedQueries() {
+  }
+
+  void add(String query, long nanos) {
+    long[] countAndNanos = countsAndNanosByQuery.computeIfAbsent(query, ignored -> new long[2]);
+    countAndNanos[0]++;
+    countAndNanos[1] += nanos;
+    count++;
+  }
+
+  void addAll(ExecutedQueries queries) {
+    for (Map.Entry<String, long[]> entry : queries.countsAndNanosByQuery.entrySet()) {
+      long[] countAndNanos = countsAndNanosByQuery.computeIfAbsent(entry.getKey(), ignored -> new long[2]);
+      countAndNanos[0] += entry.getValue()[0];
+      countAndNanos[1] += entry.getValue()[1];
+    }
+    count += queries.count;
+  }
+
+  /**
+   * @return the number of executed queries
+   */
+  public int count() {
+    return count;
+  }
+
+  /**
+   * @param query the text of a query
+   * @return the number of times the given query has been executed
+   */
+  public int count(String query) {
+    long[] countAndNanos = countsAndNanosByQuery.get(query);
+    return countAndNanos == null ? 0 : (int) countAndNanos[0];
+  }
+
+  /**
+   * @return the time spent executing queries
+   */
+  public Duration totalTime() {
+    long nanos = 0;
+    for (long[] countAndNanos : countsAndNanosByQuery.values()) {
+      nanos += countAndNanos[1];
+    }
+    return Duration.ofNanos(nanos);
+  }
+
+  /**
+   * @return one line per distinct query text, most executed first, with its count and the time spent executing it
+   */
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder();
+    countsAndNanosByQuery.entrySet().stream()
+                         .sorted((left, right) -> Long.compare(right.getValue()[0], left.getValue()[0]))
+                         .forEach(entry -> report.append(String.format("\n  %d x %s  %s", entry.getValue()[0],
+                                                                       Duration.ofNanos(entry.getValue()[1]),
+                                                                       entry.getKey())));
+    return report.toString();
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+
+import static org.assertj.neo4j.error.ShouldHaveExecutedAtMost.shouldHaveExecutedAtMost;
+
+/**
+ * Assertions for the {@link ExecutedQueries} recorded by {@link GraphDatabaseServiceAssert#whileRunning(Runnable)}
+ */
+public class ExecutedQueriesAssert extends AbstractAssert<ExecutedQueriesAssert, ExecutedQueries> {
+
+  protected ExecutedQueriesAssert(ExecutedQueries actual) {
+    super(actual, ExecutedQueriesAssert.class);
+  }
+
+  public ExecutedQueries getActual() {
+    return actual;
+  }
+
+  /**
+   * Starts the verification that the code executed at most the given number of queries, completed by
+   * {@link QueryBudget#queries()}<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = Assertions.countingQueries(new TestGraphDatabaseFactory().newImpermanentDatabase());
+   * DoughnutService service = new DoughnutService(graph);
+   *
+   * assertThat(graph).whileRunning(() -&gt; service.loadAll()).executedAtMost(3).queries();
+   * </pre>
+   *
+   * If the <code>maxQueries</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param maxQueries the maximum number of queries the code should have executed
+   * @return the {@link QueryBudget} to complete the verification with
+   *
+   * @throws IllegalArgumentException if <code>maxQueries</code> is strictly negative.
+   */
+  public QueryBudget executedAtMost(int maxQueries) {
+    if (maxQueries < 0) {
+      throw new IllegalArgumentException("The maximum number of queries should be positive.");
+    }
+    return new QueryBudget(maxQueries);
+  }
+
+  /**
+   * Maximum number of queries the code should have executed.
+   */
+  public final class QueryBudget {
+
+    private final int maxQueries;
+
+    private QueryBudget(int maxQueries) {
+      this.maxQueries = maxQueries;
+    }
+
+    /**
+     * Verifies that the code executed at most the maximum number of queries.
+     *
+     * @return the {@link ExecutedQueriesAssert} this budget comes from, for assertions chaining
+     *
+     * @throws AssertionError if the code executed more queries, listing them by text with their counts and times
+     */
+    public ExecutedQueriesAssert queries() {
+      Objects.instance().assertNotNull(info, actual);
+
+      if (actual.count() > maxQueries) {
+        throw Failures.instance().failure(info, shouldHaveExecutedAtMost(actual.count(), maxQueries,
+                                                                         actual.totalTime(), actual.toString()));
+      }
+      return ExecutedQueriesAssert.this;
+    }
+  }
+}
@@ -0,0 +1,325 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import org.neo4j.graphdb.ExecutionPlanDescription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.neo4j.error.ShouldHaveAtMost.shouldHaveOperatorDbHitsAtMost;
+import static org.assertj.neo4j.error.ShouldHaveAtMost.shouldHaveOperatorRowsAtMost;
+import static org.assertj.neo4j.error.ShouldHaveAtMost.shouldHaveTotalDbHitsAtMost;
+import static org.assertj.neo4j.error.ShouldHaveMaxDepth.shouldHaveMaxDepth;
+import static org.assertj.neo4j.error.ShouldNotUseOperators.shouldNotUseOperators;
+import static org.assertj.neo4j.error.ShouldUseIndexSeekOn.shouldUseIndexSeekOn;
+
+/**
+ * Assertions for Neo4J {@link ExecutionPlanDescription}
+ * <p>
+ * The plan tree is walked once, the first time an assertion needs it, and the resulting index of its operators is
+ * shared by all the assertions of the chain.
+ */
+public class ExecutionPlanAssert extends AbstractAssert<ExecutionPlanAssert, ExecutionPlanDescription> {
+
+  private ExecutionPlanIndex index;
+
+  protected ExecutionPlanAssert(ExecutionPlanDescription actual) {
+    super(actual, ExecutionPlanAssert.class);
+  }
+
+  private static void checkOperatorNameIsNotNull(String operatorName) {
+    if (operatorName == null) {
+      throw new IllegalArgumentException("The operator name to look for should not be null");
+    }
+  }
+
+  private static void checkMaximumIsPositive(long maximum) {
+    if (maximum < 0) {
+      throw new IllegalArgumentException("The maximum to compare against should be positive.");
+    }
+  }
+
+  public ExecutionPlanDescription getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the whole actual profiled {@link ExecutionPlanDescription} hits the database at most the given number
+   * of times<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Result result = graph.execute(&quot;PROFILE MATCH (n:DOUGHNUT {flavour: 'chocolate'}) RETURN n&quot;);
+   * result.resultAsString();
+   *
+   * assertThat(result).executionPlan().hasTotalDbHitsAtMost(10_000);
+   * </pre>
+   *
+   * If the <code>maxDbHits</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param maxDbHits the maximum number of db hits of the actual {@link ExecutionPlanDescription}
+   * @return this {@link ExecutionPlanAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>maxDbHits</code> is strictly negative.
+   * @throws IllegalStateException if the actual {@link ExecutionPlanDescription} has not been profiled.
+   * @throws AssertionError if the actual {@link ExecutionPlanDescription} has more db hits than the given maximum
+   */
+  public ExecutionPlanAssert hasTotalDbHitsAtMost(long maxDbHits) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkMaximumIsPositive(maxDbHits);
+    long dbHits = profiledIndex().totalDbHits();
+    if (dbHits > maxDbHits) {
+      throw Failures.instance().failure(info, shouldHaveTotalDbHitsAtMost(dbHits, maxDbHits));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the operators with the given name of the actual profiled {@link ExecutionPlanDescription} hit the
+   * database at most the given number of times, all together<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Result result = graph.execute(&quot;PROFILE MATCH (n:DOUGHNUT)-[:TOPPED_WITH]-&gt;(t) RETURN t&quot;);
+   * result.resultAsString();
+   *
+   * assertThat(result).executionPlan().hasOperatorDbHitsAtMost(&quot;Expand(All)&quot;, 500);
+   * </pre>
+   *
+   * Operators missing from the plan have no db hits.<br/>
+   * If the <code>operatorName</code> is {@code null} or <code>maxDbHits</code> is strictly negative, an
+   * {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param operatorName the name of the operators to look for in the actual {@link ExecutionPlanDescription}
+   * @param maxDbHits the maximum number of db hits of these operators
+   * @return this {@link ExecutionPlanAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>operatorName</code> is {@code null}.
+   * @throws IllegalArgumentException if <code>maxDbHits</code> is strictly negative.
+   * @throws IllegalStateException if the actual {@link ExecutionPlanDescription} has not been profiled.
+   * @throws AssertionError if the given operators have more db hits than the given maximum
+   */
+  public ExecutionPlanAssert hasOperatorDbHitsAtMost(String operatorName, long maxDbHits) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkOperatorNameIsNotNull(operatorName);
+    checkMaximumIsPositive(maxDbHits);
+    long dbHits = profiledIndex().dbHits(operatorName);
+    if (dbHits > maxDbHits) {
+      throw Failures.instance().failure(info, shouldHaveOperatorDbHitsAtMost(operatorName, dbHits, maxDbHits));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the operators with the given name of the actual profiled {@link ExecutionPlanDescription} produce at
+   * most the given number of rows, all together<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Result result = graph.execute(&quot;PROFILE MATCH (n:DOUGHNUT)-[:TOPPED_WITH]-&gt;(t) RETURN t&quot;);
+   * result.resultAsString();
+   *
+   * assertThat(result).executionPlan().hasOperatorRowsAtMost(&quot;NodeByLabelScan&quot;, 100);
+   * </pre>
+   *
+   * Operators missing from the plan produce no rows.<br/>
+   * If the <code>operatorName</code> is {@code null} or <code>maxRows</code> is strictly negative, an
+   * {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param operatorName the name of the operators to look for in the actual {@link ExecutionPlanDescription}
+   * @param maxRows the maximum number of rows produced by these operators
+   * @return this {@link ExecutionPlanAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>operatorName</code> is {@code null}.
+   * @throws IllegalArgumentException if <code>maxRows</code> is strictly negative.
+   * @throws IllegalStateException if the actual {@link ExecutionPlanDescription} has not been profiled.
+   * @throws AssertionError if the given operators produce more rows than the given maximum
+   */
+  public ExecutionPlanAssert hasOperatorRowsAtMost(String operatorName, long maxRows) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkOperatorNameIsNotNull(operatorName);
+    checkMaximumIsPositive(maxRows);
+    long rows = profiledIndex().rows(operatorName);
+    if (rows > maxRows) {
+      throw Failures.instance().failure(info, shouldHaveOperatorRowsAtMost(operatorName, rows, maxRows));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@link ExecutionPlanDescription} does not use any of the given operators<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Result result = graph.execute(&quot;EXPLAIN MATCH (n:DOUGHNUT), (t:TOPPING) RETURN n, t&quot;);
+   *
+   * // fails, the plan has a CartesianProduct
+   * assertThat(result).executionPlan().doesNotUseOperator(&quot;AllNodesScan&quot;, &quot;Eager&quot;, &quot;CartesianProduct&quot;);
+   * </pre>
+   *
+   * If the <code>operatorNames</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param operatorNames the names of the operators the actual {@link ExecutionPlanDescription} should not use
+   * @return this {@link ExecutionPlanAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>operatorNames</code> is {@code null}.
+   * @throws AssertionError if the actual {@link ExecutionPlanDescription} uses one of the given operators
+   */
+  public ExecutionPlanAssert doesNotUseOperator(String... operatorNames) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (operatorNames == null) {
+      throw new IllegalArgumentException("The operator names to look for should not be null");
+    }
+    Set<String> actualOperatorNames = index().operatorNames();
+    List<String> usedOperatorNames = new ArrayList<>();
+    for (String operatorName : operatorNames) {
+      if (actualOperatorNames.contains(operatorName)) {
+        usedOperatorNames.add(operatorName);
+      }
+    }
+    if (!usedOperatorNames.isEmpty()) {
+      throw Failures.instance().failure(info, shouldNotUseOperators(Arrays.asList(operatorNames), usedOperatorNames));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@link ExecutionPlanDescription} seeks the index on the given label and property key<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * graph.schema().indexFor(Label.label(&quot;DOUGHNUT&quot;)).on(&quot;flavour&quot;).create();
+   * // [...]
+   * Result result = graph.execute(&quot;EXPLAIN MATCH (n:DOUGHNUT {flavour: 'chocolate'}) RETURN n&quot;);
+   *
+   * assertThat(result).executionPlan().usesIndexSeekOn(&quot;DOUGHNUT&quot;, &quot;flavour&quot;);
+   * </pre>
+   *
+   * Any index seek operator (<code>NodeIndexSeek</code>, <code>NodeUniqueIndexSeek</code>, their range variants...)
+   * whose arguments mention the <code>:label(propertyKey)</code> index is accepted.<br/>
+   * If any of the <code>label</code> or <code>propertyKey</code> is {@code null}, an {@link IllegalArgumentException}
+   * is thrown.
+   * <p>
+   *
+   * @param label the label of the index to look for
+   * @param propertyKey the property key of the index to look for
+   * @return this {@link ExecutionPlanAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>label</code> is {@code null}.
+   * @throws IllegalArgumentException if <code>propertyKey</code> is {@code null}.
+   * @throws AssertionError if the actual {@link ExecutionPlanDescription} does not seek the given index
+   */
+  public ExecutionPlanAssert usesIndexSeekOn(String label, String propertyKey) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (label == null) {
+      throw new IllegalArgumentException("The label to look for should not be null");
+    }
+    if (propertyKey == null) {
+      throw new IllegalArgumentException("The property key to look for should not be null");
+    }
+    String indexDescription = String.format(":%s(%s)", label, propertyKey);
+    for (String operatorName : index().operatorNames()) {
+      if (operatorName.contains("IndexSeek") && seeksIndex(index().plans(operatorName), indexDescription)) {
+        return this;
+      }
+    }
+    throw Failures.instance().failure(info, shouldUseIndexSeekOn(indexDescription, index().operatorNames()));
+  }
+
+  /**
+   * Verifies that the actual {@link ExecutionPlanDescription} tree is at most the given number of levels deep<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Result result = graph.execute(&quot;EXPLAIN MATCH (n:DOUGHNUT) RETURN n&quot;);
+   *
+   * // ProduceResults &lt;- NodeByLabelScan
+   * assertThat(result).executionPlan().hasMaxDepth(2);
+   * </pre>
+   *
+   * A plan made of a single operator is one level deep.<br/>
+   * If the <code>maxDepth</code> is not strictly positive, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param maxDepth the maximum depth of the actual {@link ExecutionPlanDescription} tree
+   * @return this {@link ExecutionPlanAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>maxDepth</code> is not strictly positive.
+   * @throws AssertionError if the actual {@link ExecutionPlanDescription} tree is deeper than the given maximum
+   */
+  public ExecutionPlanAssert hasMaxDepth(int maxDepth) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("The maximum depth to compare against should be strictly positive.");
+    }
+    int depth = index().depth();
+    if (depth > maxDepth) {
+      throw Failures.instance().failure(info, shouldHaveMaxDepth(depth, maxDepth));
+    }
+    return this;
+  }
+
+  private static boolean seeksIndex(List<ExecutionPlanDescription> plans, String indexDescription) {
+    for (ExecutionPlanDescription plan : plans) {
+      for (Object argument : plan.getArguments().values()) {
+        if (String.valueOf(argument).contains(indexDescription)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private ExecutionPlanIndex index() {
+    if (index == null) {
+      index = new ExecutionPlanIndex(actual);
+    }
+    return index;
+  }
+
+  private ExecutionPlanIndex profiledIndex() {
+    ExecutionPlanIndex index = index();
+    if (!index.isProfiled()) {
+      throw new IllegalStateException("The execution plan should come from a PROFILE query");
+    }
+    return index;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.neo4j.graphdb.ExecutionPlanDescription;
+import org.neo4j.graphdb.ExecutionPlanDescription.ProfilerStatistics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Operators of an {@link ExecutionPlanDescription} tree indexed by name, along with their profiler statistics summed
+ * per name and the depth of the tree, all gathered in a single walk of the tree.
+ */
+class ExecutionPlanIndex {
+
+  private final Map<String, Operator> operators = new LinkedHashMap<>();
+  private boolean profiled = true;
+  private long totalDbHits;
+  private int depth;
+
+  ExecutionPlanIndex(ExecutionPlanDescription root) {
+    Deque<ExecutionPlanDescription> plans = new ArrayDeque<>();
+    Deque<Integer> depths = new ArrayDeque<>();
+    plans.push(root);
+    depths.push(1);
+    while (!plans.isEmpty()) {
+      ExecutionPlanDescription plan = plans.pop();
+      int planDepth = depths.pop();
+      depth = Math.max(depth, planDepth);
+      Operator operator = operators.computeIfAbsent(plan.getName(), ignored -> new Operator());
+      operator.plans.add(plan);
+      if (plan.hasProfilerStatistics()) {
+        ProfilerStatistics statistics = plan.getProfilerStatistics();
+        operator.dbHits += statistics.getDbHits();
+        operator.rows += statistics.getRows();
+        totalDbHits += statistics.getDbHits();
+      } else {
+        profiled = false;
+      }
+      for (ExecutionPlanDescription child : plan.getChildren()) {
+        plans.push(child);
+        depths.push(planDepth + 1);
+      }
+    }
+  }
+
+  Set<String> operatorNames() {
+    return operators.keySet();
+  }
+
+  List<ExecutionPlanDescription> plans(String operatorName) {
+    Operator operator = operators.get(operatorName);
+    return operator == null ? Collections.emptyList() : operator.plans;
+  }
+
+  int depth() {
+    return depth;
+  }
+
+  boolean isProfiled() {
+    return profiled;
+  }
+
+  long totalDbHits() {
+    return totalDbHits;
+  }
+
+  long dbHits(String operatorName) {
+    Operator operator = operators.get(operatorName);
+    return operator == null ? 0 : operator.dbHits;
+  }
+
+  long rows(String operatorName) {
+    Operator operator = operators.get(operatorName);
+    return operator == null ? 0 : operator.rows;
+  }
+
+  private static final class Operator {
+
+    private final List<ExecutionPlanDescription> plans = new ArrayList<>();
+    private long dbHits;
+    private long rows;
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.neo4j.graphdb.schema.ConstraintDefinition;
+import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Indexes and constraints a Neo4J {@link Schema} is expected to have, for
+ * {@link SchemaAssert#matches(ExpectedSchema)}.
+ * <p>
+ * Indexes backing uniqueness constraints are part of their constraint, they are not listed as indexes.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * ExpectedSchema expectedSchema = ExpectedSchema.empty()
+ *   .withIndex(&quot;DOUGHNUT&quot;, &quot;flavour&quot;)
+ *   .withUniqueness(&quot;BAKERY&quot;, &quot;siret&quot;)
+ *   .withNodePropertyExistence(&quot;BAKERY&quot;, &quot;name&quot;)
+ *   .withRelationshipPropertyExistence(&quot;BAKED_IN&quot;, &quot;since&quot;);
+ *
+ * try (Transaction ignored = graph.beginTx()) {
+ *   assertThat(graph.schema()).matches(expectedSchema);
+ * }
+ * </pre>
+ */
+public final class ExpectedSchema {
+
+  private final Set<SchemaEntry> entries = new LinkedHashSet<>();
+
+  private ExpectedSchema() {
+  }
+
+  /**
+   * Creates an expected schema without any index nor constraint, to add the expected ones to.
+   *
+   * @return the created {@link ExpectedSchema}
+   */
+  public static ExpectedSchema empty() {
+    return new ExpectedSchema();
+  }
+
+  /**
+   * Creates an expected schema with the indexes and constraints of the given {@link Schema}, read in the current
+   * transaction, to compare other schemas to a reference one.
+   *
+   * @param schema the {@link Schema} to read the indexes and constraints of
+   * @return the created {@link ExpectedSchema}
+   *
+   * @throws IllegalArgumentException if <code>schema</code> is {@code null}.
+   */
+  public static ExpectedSchema of(Schema schema) {
+    if (schema == null) {
+      throw new IllegalArgumentException("The schema to read should not be null");
+    }
+    ExpectedSchema expectedSchema = new ExpectedSchema();
+    for (IndexDefinition index : schema.getIndexes()) {
+      if (!index.isConstraintIndex()) {
+        expectedSchema.entries.add(new SchemaEntry(SchemaEntry.Kind.INDEX, index.getLabel().name(),
+                                                   list(index.getPropertyKeys())));
+      }
+    }
+    for (ConstraintDefinition constraint : schema.getConstraints()) {
+      expectedSchema.entries.add(entry(constraint));
+    }
+    return expectedSchema;
+  }
+
+  /**
+   * Adds an index on the given label and property keys.
+   *
+   * @param label the label of the index
+   * @param propertyKeys the property keys of the index
+   * @return this {@link ExpectedSchema}
+   *
+   * @throws IllegalArgumentException if <code>label</code> or any of <code>propertyKeys</code> is {@code null}, or if
+   *           <code>propertyKeys</code> are empty.
+   */
+  public ExpectedSchema withIndex(String label, String... propertyKeys) {
+    return with(SchemaEntry.Kind.INDEX, label, propertyKeys);
+  }
+
+  /**
+   * Adds a uniqueness constraint on the given label and property key.
+   *
+   * @param label the label of the constraint
+   * @param propertyKey the property key whose values are unique
+   * @return this {@link ExpectedSchema}
+   *
+   * @throws IllegalArgumentException if <code>label</code> or <code>propertyKey</code> is {@code null}.
+   */
+  public ExpectedSchema withUniqueness(String label, String propertyKey) {
+    return with(SchemaEntry.Kind.UNIQUENESS, label, propertyKey);
+  }
+
+  /**
+   * Adds a node property existence constraint on the given label and property key.
+   *
+   * @param label the label of the constraint
+   * @param propertyKey the property key nodes with the label must have
+   * @return this {@link ExpectedSchema}
+   *
+   * @throws IllegalArgumentException if <code>label</code> or <code>propertyKey</code> is {@code null}.
+   */
+  public ExpectedSchema withNodePropertyExistence(String label, String propertyKey) {
+    return with(SchemaEntry.Kind.NODE_PROPERTY_EXISTENCE, label, propertyKey);
+  }
+
+  /**
+   * Adds a relationship property existence constraint on the given relationship type and property key.
+   *
+   * @param type the relationship type of the constraint
+   * @param propertyKey the property key relationships of the type must have
+   * @return this {@link ExpectedSchema}
+   *
+   * @throws IllegalArgumentException if <code>type</code> or <code>propertyKey</code> is {@code null}.
+   */
+  public ExpectedSchema withRelationshipPropertyExistence(String type, String propertyKey) {
+    return with(SchemaEntry.Kind.RELATIONSHIP_PROPERTY_EXISTENCE, type, propertyKey);
+  }
+
+  Set<SchemaEntry> getEntries() {
+    return Collections.unmodifiableSet(entries);
+  }
+
+  @Override
+  public String toString() {
+    return entries.toString();
+  }
+
+  private ExpectedSchema with(SchemaEntry.Kind kind, String labelOrType, String... propertyKeys) {
+    if (labelOrType == null) {
+      throw new IllegalArgumentException("The label or relationship type of the schema entry should not be null");
+    }
+    if (propertyKeys == null || propertyKeys.length == 0) {
+      throw new IllegalArgumentException("The property keys of the schema entry should not be empty");
+    }
+    for (String propertyKey : propertyKeys) {
+      if (propertyKey == null) {
+        throw new IllegalArgumentException("The property key of the schema entry should not be null");
+      }
+    }
+    entries.add(new SchemaEntry(kind, labelOrType, new ArrayList<>(Arrays.asList(propertyKeys))));
+    return this;
+  }
+
+  private static SchemaEntry entry(ConstraintDefinition constraint) {
+    switch (constraint.getConstraintType()) {
+      case UNIQUENESS:
+        return new SchemaEntry(SchemaEntry.Kind.UNIQUENESS, constraint.getLabel().name(),
+                               list(constraint.getPropertyKeys()));
+      case NODE_PROPERTY_EXISTENCE:
+        return new SchemaEntry(SchemaEntry.Kind.NODE_PROPERTY_EXISTENCE, constraint.getLabel().name(),
+                               list(constraint.getPropertyKeys()));
+      default:
+        return new SchemaEntry(SchemaEntry.Kind.RELATIONSHIP_PROPERTY_EXISTENCE,
+                               constraint.getRelationshipType().name(), list(constraint.getPropertyKeys()));
+    }
+  }
+
+  private static List<String> list(Iterable<String> propertyKeys) {
+    List<String> list = new ArrayList<>();
+    for (String propertyKey : propertyKeys) {
+      list.add(propertyKey);
+    }
+    return list;
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.neo4j.api.GraphFixture.FixtureNode;
+import org.assertj.neo4j.api.GraphFixture.FixtureRelationship;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Reads the nodes and relationships of a {@link GraphFixture} from CSV files, one line at a time.
+ */
+final class FixtureCsv {
+
+  private static final String[] NODE_COLUMNS = { "id", "labels" };
+  private static final String[] RELATIONSHIP_COLUMNS = { "start", "type", "end" };
+  private static final String[] NO_LABELS = {};
+
+  private FixtureCsv() {
+  }
+
+  static Stream<FixtureNode> nodes(Path csv) {
+    BufferedReader reader = open(csv);
+    Header header = Header.read(reader, csv, NODE_COLUMNS);
+    return lines(reader, header, csv).map(cells -> {
+      String labels = cells.get(1);
+      FixtureNode node = GraphFixture.node(Long.parseLong(cells.get(0)),
+                                           labels.isEmpty() ? NO_LABELS : labels.split(";"));
+      header.readProperties(cells, node::withProperty);
+      return node;
+    });
+  }
+
+  static Stream<FixtureRelationship> relationships(Path csv) {
+    BufferedReader reader = open(csv);
+    Header header = Header.read(reader, csv, RELATIONSHIP_COLUMNS);
+    return lines(reader, header, csv).map(cells -> {
+      FixtureRelationship relationship = GraphFixture.relationship(Long.parseLong(cells.get(0)), cells.get(1),
+                                                                   Long.parseLong(cells.get(2)));
+      header.readProperties(cells, relationship::withProperty);
+      return relationship;
+    });
+  }
+
+  private static BufferedReader open(Path csv) {
+    try {
+      return Files.newBufferedReader(csv, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read " + csv, e);
+    }
+  }
+
+  private static Stream<List<String>> lines(BufferedReader reader, Header header, Path csv) {
+    return reader.lines()
+                 .filter(line -> !line.isEmpty())
+                 .map(line -> {
+                   List<String> cells = split(line);
+                   if (cells.size() != header.columns) {
+                     throw new IllegalArgumentException(String.format("Expecting %d cells in %s but line <%s> has %d",
+                                                                      header.columns, csv, line, cells.size()));
+                   }
+                   return cells;
+                 })
+                 .onClose(() -> close(reader));
+  }
+
+  private static void close(BufferedReader reader) {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Splits a line on commas, cells can be quoted with double quotes, doubled to be escaped.
+   */
+  static List<String> split(String line) {
+    List<String> cells = new ArrayList<>();
+    StringBuilder cell = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c != '"') {
+          cell.append(c);
+        } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          cell.append('"');
+          i++;
+        } else {
+          quoted = false;
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        cells.add(cell.toString());
+        cell.setLength(0);
+      } else {
+        cell.append(c);
+      }
+    }
+    cells.add(cell.toString());
+    return cells;
+  }
+
+  /**
+   * Fixed columns followed by typed property columns.
+   */
+  private static final class Header {
+
+    private final int columns;
+    private final int firstProperty;
+    private final String[] keys;
+    private final List<Function<String, Object>> parsers;
+
+    private Header(int firstProperty, String[] keys, List<Function<String, Object>> parsers) {
+      this.columns = firstProperty + keys.length;
+      this.firstProperty = firstProperty;
+      this.keys = keys;
+      this.parsers = parsers;
+    }
+
+    static Header read(BufferedReader reader, Path csv, String[] fixedColumns) {
+      String line;
+      try {
+        line = reader.readLine();
+      } catch (IOException e) {
+        close(reader);
+        throw new UncheckedIOException("Could not read " + csv, e);
+      }
+      List<String> cells = line == null ? new ArrayList<>() : split(line);
+      for (int i = 0; i < fixedColumns.length; i++) {
+        if (cells.size() <= i || !fixedColumns[i].equals(cells.get(i))) {
+          close(reader);
+          throw new IllegalArgumentException(String.format("Expecting the header of %s to start with %s but was <%s>",
+                                                           csv, String.join(",", fixedColumns), line));
+        }
+      }
+      String[] keys = new String[cells.size() - fixedColumns.length];
+      List<Function<String, Object>> parsers = new ArrayList<>(keys.length);
+      for (int i = 0; i < keys.length; i++) {
+        String column = cells.get(fixedColumns.length + i);
+        int separator = column.lastIndexOf(':');
+        keys[i] = separator < 0 ? column : column.substring(0, separator);
+        parsers.add(parser(separator < 0 ? "string" : column.substring(separator + 1), csv, reader));
+      }
+      return new Header(fixedColumns.length, keys, parsers);
+    }
+
+    private static Function<String, Object> parser(String type, Path csv, BufferedReader reader) {
+      switch (type) {
+        case "string":
+          return value -> value;
+        case "int":
+          return Integer::valueOf;
+        case "long":
+          return Long::valueOf;
+        case "double":
+          return Double::valueOf;
+        case "boolean":
+          return Boolean::valueOf;
+        default:
+          close(reader);
+          throw new IllegalArgumentException(String.format("Unknown property type <%s> in the header of %s", type,
+                                                           csv));
+      }
+    }
+
+    void readProperties(List<String> cells, BiConsumer<String, Object> properties) {
+      for (int i = 0; i < keys.length; i++) {
+        String value = cells.get(firstProperty + i);
+        if (!value.isEmpty()) {
+          properties.accept(keys[i], parsers.get(i).apply(value));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.event.LabelEntry;
+import org.neo4j.graphdb.event.PropertyEntry;
+import org.neo4j.graphdb.event.TransactionData;
+import org.neo4j.graphdb.event.TransactionEventHandler;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Changes committed to a {@link GraphDatabaseService} since {@link #recordOn(GraphDatabaseService)} and until
+ * {@link #close()}, gathered from the {@link TransactionData} of every committed transaction.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+ *
+ * try (GraphChanges changes = GraphChanges.recordOn(graph)) {
+ *   doughnutService.bake(3);
+ *
+ *   assertThat(changes).hasCreatedNodes(3).hasNotTouchedLabel(&quot;USER&quot;);
+ * }
+ * </pre>
+ *
+ * Only entity ids are kept, in sets of primitive values, so recording costs as much as the changes themselves whatever
+ * the size of the graph. A node is touched when it is created or deleted, when its labels or properties change, or
+ * when a relationship starting or ending with it is created or deleted; the labels of touched nodes are read before the
+ * transaction commits.
+ */
+public final class GraphChanges implements AutoCloseable {
+
+  private final GraphDatabaseService graph;
+  private final Recorder recorder = new Recorder();
+  private final ChangeSet changes = new ChangeSet();
+
+  private GraphChanges(GraphDatabaseService graph) {
+    this.graph = graph;
+  }
+
+  /**
+   * Starts recording the changes committed to the given {@link GraphDatabaseService}.
+   *
+   * @param graph the {@link GraphDatabaseService} to record the changes of
+   * @return the recorded changes, to be closed to stop recording
+   *
+   * @throws IllegalArgumentException if <code>graph</code> is {@code null}.
+   */
+  public static GraphChanges recordOn(GraphDatabaseService graph) {
+    if (graph == null) {
+      throw new IllegalArgumentException("The graph database to record the changes of should not be null");
+    }
+    GraphChanges changes = new GraphChanges(graph);
+    graph.registerTransactionEventHandler(changes.recorder);
+    return changes;
+  }
+
+  /**
+   * @return the number of nodes created by committed transactions
+   */
+  public synchronized int createdNodeCount() {
+    return changes.createdNodes.size();
+  }
+
+  /**
+   * @return the number of nodes deleted by committed transactions
+   */
+  public synchronized int deletedNodeCount() {
+    return changes.deletedNodes.size();
+  }
+
+  /**
+   * @return the number of relationships created by committed transactions
+   */
+  public synchronized int createdRelationshipCount() {
+    return changes.createdRelationships.size();
+  }
+
+  /**
+   * @return the number of relationships deleted by committed transactions
+   */
+  public synchronized int deletedRelationshipCount() {
+    return changes.deletedRelationships.size();
+  }
+
+  /**
+   * @param label the name of a label
+   * @return the ids of the nodes with the given label touched by committed transactions, in ascending order
+   */
+  public synchronized long[] touchedNodeIds(String label) {
+    LongSet nodes = changes.touchedNodesByLabel.get(label);
+    return nodes == null ? new long[0] : nodes.toArray();
+  }
+
+  /**
+   * @return whether committed transactions changed anything at all
+   */
+  public synchronized boolean isEmpty() {
+    return changes.createdNodes.size() == 0 && changes.deletedNodes.size() == 0
+           && changes.createdRelationships.size() == 0 && changes.deletedRelationships.size() == 0
+           && changes.touchedNodes.size() == 0 && changes.touchedRelationships.size() == 0;
+  }
+
+  /**
+   * Stops recording changes, the changes recorded so far are kept.
+   */
+  @Override
+  public void close() {
+    graph.unregisterTransactionEventHandler(recorder);
+  }
+
+  @Override
+  public synchronized String toString() {
+    return String.format("GraphChanges[createdNodes=%d, deletedNodes=%d, createdRelationships=%d, " +
+                         "deletedRelationships=%d, touchedNodes=%d, touchedRelationships=%d]",
+                         changes.createdNodes.size(), changes.deletedNodes.size(),
+                         changes.createdRelationships.size(), changes.deletedRelationships.size(),
+                         changes.touchedNodes.size(), changes.touchedRelationships.size());
+  }
+
+  private synchronized void merge(ChangeSet transactionChanges) {
+    changes.merge(transactionChanges);
+  }
+
+  /**
+   * Changes of one or several transactions.
+   */
+  private static final class ChangeSet {
+
+    private final LongSet createdNodes = new LongSet();
+    private final LongSet deletedNodes = new LongSet();
+    private final LongSet createdRelationships = new LongSet();
+    private final LongSet deletedRelationships = new LongSet();
+    private final LongSet touchedNodes = new LongSet();
+    private final LongSet touchedRelationships = new LongSet();
+    private final Map<String, LongSet> touchedNodesByLabel = new HashMap<>();
+
+    private void touch(String label, long nodeId) {
+      touchedNodesByLabel.computeIfAbsent(label, ignored -> new LongSet()).add(nodeId);
+    }
+
+    private void merge(ChangeSet other) {
+      createdNodes.addAll(other.createdNodes);
+      deletedNodes.addAll(other.deletedNodes);
+      createdRelationships.addAll(other.createdRelationships);
+      deletedRelationships.addAll(other.deletedRelationships);
+      touchedNodes.addAll(other.touchedNodes);
+      touchedRelationships.addAll(other.touchedRelationships);
+      for (Map.Entry<String, LongSet> entry : other.touchedNodesByLabel.entrySet()) {
+        touchedNodesByLabel.computeIfAbsent(entry.getKey(), ignored -> new LongSet()).addAll(entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * Gathers the changes of each transaction before it commits, while the labels of the touched nodes can still be
+   * read, and only keeps them once it has committed.
+   */
+  private final class Recorder implements TransactionEventHandler<ChangeSet> {
+
+    @Override
+    public ChangeSet beforeCommit(TransactionData data) {
+      ChangeSet transactionChanges = new ChangeSet();
+      for (Node node : data.createdNodes()) {
+        transactionChanges.createdNodes.add(node.getId());
+        transactionChanges.touchedNodes.add(node.getId());
+      }
+      for (Node node : data.deletedNodes()) {
+        transactionChanges.deletedNodes.add(node.getId());
+        transactionChanges.touchedNodes.add(node.getId());
+      }
+      for (LabelEntry entry : data.assignedLabels()) {
+        transactionChanges.touch(entry.label().name(), entry.node().getId());
+        transactionChanges.touchedNodes.add(entry.node().getId());
+      }
+      for (LabelEntry entry : data.removedLabels()) {
+        transactionChanges.touch(entry.label().name(), entry.node().getId());
+        transactionChanges.touchedNodes.add(entry.node().getId());
+      }
+      LongSet labelledNodes = new LongSet();
+      touchNodes(data, data.assignedNodeProperties(), transactionChanges, labelledNodes);
+      touchNodes(data, data.removedNodeProperties(), transactionChanges, labelledNodes);
+      for (Relationship relationship : data.createdRelationships()) {
+        transactionChanges.createdRelationships.add(relationship.getId());
+        transactionChanges.touchedRelationships.add(relationship.getId());
+        touchNode(data, relationship.getStartNode(), transactionChanges, labelledNodes);
+        touchNode(data, relationship.getEndNode(), transactionChanges, labelledNodes);
+      }
+      for (Relationship relationship : data.deletedRelationships()) {
+        transactionChanges.deletedRelationships.add(relationship.getId());
+        transactionChanges.touchedRelationships.add(relationship.getId());
+        touchNode(data, relationship.getStartNode(), transactionChanges, labelledNodes);
+        touchNode(data, relationship.getEndNode(), transactionChanges, labelledNodes);
+      }
+      touchRelationships(data.assignedRelationshipProperties(), transactionChanges);
+      touchRelationships(data.removedRelationshipProperties(), transactionChanges);
+      return transactionChanges;
+    }
+
+    @Override
+    public void afterCommit(TransactionData data, ChangeSet transactionChanges) {
+      merge(transactionChanges);
+    }
+
+    @Override
+    public void afterRollback(TransactionData data, ChangeSet transactionChanges) {
+      // nothing has changed
+    }
+
+    private void touchNodes(TransactionData data, Iterable<PropertyEntry<Node>> entries, ChangeSet transactionChanges,
+                            LongSet labelledNodes) {
+      for (PropertyEntry<Node> entry : entries) {
+        touchNode(data, entry.entity(), transactionChanges, labelledNodes);
+      }
+    }
+
+    /**
+     * Deleted nodes can no longer be read, their labels are already part of the removed labels.
+     */
+    private void touchNode(TransactionData data, Node node, ChangeSet transactionChanges, LongSet labelledNodes) {
+      transactionChanges.touchedNodes.add(node.getId());
+      if (!data.isDeleted(node) && labelledNodes.add(node.getId())) {
+        for (Label label : node.getLabels()) {
+          transactionChanges.touch(label.name(), node.getId());
+        }
+      }
+    }
+
+    private void touchRelationships(Iterable<PropertyEntry<Relationship>> entries, ChangeSet transactionChanges) {
+      for (PropertyEntry<Relationship> entry : entries) {
+        transactionChanges.touchedRelationships.add(entry.entity().getId());
+      }
+    }
+  }
+}
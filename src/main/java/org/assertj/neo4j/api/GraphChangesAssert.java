@@ -0,0 +1,250 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+
+import static org.assertj.neo4j.error.ShouldHaveChanges.shouldHaveChangeCount;
+import static org.assertj.neo4j.error.ShouldHaveChanges.shouldHaveNoChanges;
+import static org.assertj.neo4j.error.ShouldHaveChanges.shouldNotHaveTouchedLabel;
+
+/**
+ * Assertions for the {@link GraphChanges} recorded from committed transactions
+ */
+public class GraphChangesAssert extends AbstractAssert<GraphChangesAssert, GraphChanges> {
+
+  protected GraphChangesAssert(GraphChanges actual) {
+    super(actual, GraphChangesAssert.class);
+  }
+
+  private static void checkCountIsPositive(long count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("The count to compare against should be positive.");
+    }
+  }
+
+  public GraphChanges getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the committed transactions have created the given number of nodes<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * try (GraphChanges changes = GraphChanges.recordOn(graph)) {
+   *   doughnutService.bake(3);
+   *
+   *   assertThat(changes).hasCreatedNodes(3);
+   * }
+   * </pre>
+   *
+   * If the <code>nodeCount</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param nodeCount the expected number of nodes created
+   * @return this {@link GraphChangesAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>nodeCount</code> is strictly negative.
+   * @throws AssertionError if the committed transactions have created a different number of nodes
+   */
+  public GraphChangesAssert hasCreatedNodes(long nodeCount) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkCountIsPositive(nodeCount);
+    long actualCount = actual.createdNodeCount();
+    if (actualCount != nodeCount) {
+      throw Failures.instance().failure(info, shouldHaveChangeCount("created", "nodes", actualCount, nodeCount));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the committed transactions have deleted the given number of nodes<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * try (GraphChanges changes = GraphChanges.recordOn(graph)) {
+   *   doughnutService.bake(3);
+   *
+   *   assertThat(changes).hasDeletedNodes(1);
+   * }
+   * </pre>
+   *
+   * If the <code>nodeCount</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param nodeCount the expected number of nodes deleted
+   * @return this {@link GraphChangesAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>nodeCount</code> is strictly negative.
+   * @throws AssertionError if the committed transactions have deleted a different number of nodes
+   */
+  public GraphChangesAssert hasDeletedNodes(long nodeCount) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkCountIsPositive(nodeCount);
+    long actualCount = actual.deletedNodeCount();
+    if (actualCount != nodeCount) {
+      throw Failures.instance().failure(info, shouldHaveChangeCount("deleted", "nodes", actualCount, nodeCount));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the committed transactions have created the given number of relationships<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * try (GraphChanges changes = GraphChanges.recordOn(graph)) {
+   *   doughnutService.bake(3);
+   *
+   *   assertThat(changes).hasCreatedRelationships(2);
+   * }
+   * </pre>
+   *
+   * If the <code>relationshipCount</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param relationshipCount the expected number of relationships created
+   * @return this {@link GraphChangesAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>relationshipCount</code> is strictly negative.
+   * @throws AssertionError if the committed transactions have created a different number of relationships
+   */
+  public GraphChangesAssert hasCreatedRelationships(long relationshipCount) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkCountIsPositive(relationshipCount);
+    long actualCount = actual.createdRelationshipCount();
+    if (actualCount != relationshipCount) {
+      throw Failures.instance().failure(info, shouldHaveChangeCount("created", "relationships", actualCount,
+                                                                    relationshipCount));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the committed transactions have deleted the given number of relationships<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * try (GraphChanges changes = GraphChanges.recordOn(graph)) {
+   *   doughnutService.bake(3);
+   *
+   *   assertThat(changes).hasDeletedRelationships(1);
+   * }
+   * </pre>
+   *
+   * If the <code>relationshipCount</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param relationshipCount the expected number of relationships deleted
+   * @return this {@link GraphChangesAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>relationshipCount</code> is strictly negative.
+   * @throws AssertionError if the committed transactions have deleted a different number of relationships
+   */
+  public GraphChangesAssert hasDeletedRelationships(long relationshipCount) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkCountIsPositive(relationshipCount);
+    long actualCount = actual.deletedRelationshipCount();
+    if (actualCount != relationshipCount) {
+      throw Failures.instance().failure(info, shouldHaveChangeCount("deleted", "relationships", actualCount,
+                                                                    relationshipCount));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the committed transactions have not touched any node with the given label<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * try (GraphChanges changes = GraphChanges.recordOn(graph)) {
+   *   doughnutService.bake(3);
+   *
+   *   assertThat(changes).hasNotTouchedLabel(&quot;USER&quot;);
+   * }
+   * </pre>
+   *
+   * A node is touched when it is created or deleted, when its labels or properties change, or when a relationship
+   * starting or ending with it is created.<br/>
+   * If the <code>label</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param label the label of the nodes that should not have been touched
+   * @return this {@link GraphChangesAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>label</code> is {@code null}.
+   * @throws AssertionError if the committed transactions have touched a node with the given label
+   */
+  public GraphChangesAssert hasNotTouchedLabel(String label) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (label == null) {
+      throw new IllegalArgumentException("The label to look for should not be null");
+    }
+    long[] touchedNodeIds = actual.touchedNodeIds(label);
+    if (touchedNodeIds.length > 0) {
+      throw Failures.instance().failure(info, shouldNotHaveTouchedLabel(label, touchedNodeIds));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the committed transactions have not changed anything<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * try (GraphChanges changes = GraphChanges.recordOn(graph)) {
+   *   doughnutService.findAll();
+   *
+   *   assertThat(changes).hasNoChanges();
+   * }
+   * </pre>
+   *
+   * @return this {@link GraphChangesAssert} for assertions chaining
+   *
+   * @throws AssertionError if the committed transactions have changed anything
+   */
+  public GraphChangesAssert hasNoChanges() {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (!actual.isEmpty()) {
+      throw Failures.instance().failure(info, shouldHaveNoChanges(actual));
+    }
+    return this;
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.neo4j.ext.udc.UdcSettings;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.factory.GraphDatabaseFactory;
+import org.neo4j.graphdb.factory.GraphDatabaseSettings;
+import org.neo4j.graphdb.schema.ConstraintDefinition;
+import org.neo4j.graphdb.schema.IndexDefinition;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * JUnit rule giving every test a clean {@link GraphDatabaseService} without paying the startup of a database per test
+ * or per test class.
+ * <p>
+ * The database is started once per JVM, on first use, in a temporary directory deleted when the JVM exits. Tests are
+ * isolated from each other according to the rule {@link Isolation}:
+ * <ul>
+ * <li>{@link Isolation#ROLLBACK}, the default, runs each test in a transaction that is rolled back once the test is
+ * over. Transactions begun by the test join it, so nothing the test writes is ever committed.</li>
+ * <li>{@link Isolation#CLEANUP} lets the test commit and deletes all nodes, relationships, indexes and constraints
+ * once it is over. This is needed by tests changing the schema or writing from other threads.</li>
+ * </ul>
+ * Example:
+ *
+ * <pre>
+ * public class DoughnutTest {
+ *
+ *   &#64;Rule
+ *   public GraphDatabaseRule graphDatabase = new GraphDatabaseRule().reportingTo(System.out::println);
+ *
+ *   &#64;Test
+ *   public void should_bake_doughnuts() {
+ *     GraphDatabaseService graph = graphDatabase.getGraphDatabaseService();
+ *     graph.execute(&quot;CREATE (:DOUGHNUT {flavour: 'glazed'})&quot;);
+ *
+ *     assertThat(graph).hasNodeCount(&quot;DOUGHNUT&quot;, 1);
+ *   }
+ * }
+ * </pre>
+ *
+ * As the database is shared, tests using the {@link Isolation#CLEANUP} isolation should not run concurrently in the
+ * same JVM. For the same reason the startup time is reported once per JVM, by the first rule given a reporter, and the
+ * total reset time adds up the resets of all the tests of the JVM, whatever the rule instance they were run by.
+ */
+public class GraphDatabaseRule implements TestRule {
+
+  /**
+   * How tests sharing the database are isolated from each other.
+   */
+  public enum Isolation {
+    /**
+     * Each test runs in a transaction rolled back once the test is over.
+     */
+    ROLLBACK,
+    /**
+     * The whole graph and its schema are deleted once each test is over.
+     */
+    CLEANUP
+  }
+
+  private final Isolation isolation;
+
+  private Consumer<String> reporter;
+
+  private Duration lastResetTime = Duration.ZERO;
+
+  /**
+   * Creates a rule isolating tests with {@link Isolation#ROLLBACK}.
+   */
+  public GraphDatabaseRule() {
+    this(Isolation.ROLLBACK);
+  }
+
+  /**
+   * Creates a rule isolating tests with the given {@link Isolation}.
+   *
+   * @param isolation how tests are isolated from each other
+   * @throws IllegalArgumentException if <code>isolation</code> is {@code null}.
+   */
+  public GraphDatabaseRule(Isolation isolation) {
+    if (isolation == null) {
+      throw new IllegalArgumentException("The isolation should not be null");
+    }
+    this.isolation = isolation;
+  }
+
+  /**
+   * Reports the reset time of each test run by this rule to the given reporter, as well as the database startup time
+   * if no other rule of the JVM has reported it yet.
+   *
+   * @param reporter the consumer of the timing messages, <code>System.out::println</code> for instance
+   * @return this rule
+   * @throws IllegalArgumentException if <code>reporter</code> is {@code null}.
+   */
+  public GraphDatabaseRule reportingTo(Consumer<String> reporter) {
+    if (reporter == null) {
+      throw new IllegalArgumentException("The reporter should not be null");
+    }
+    this.reporter = reporter;
+    return this;
+  }
+
+  /**
+   * Returns the database shared by all the tests of the JVM, starting it if needed.
+   *
+   * @return the shared database
+   */
+  public GraphDatabaseService getGraphDatabaseService() {
+    return SharedDatabase.INSTANCE.graph;
+  }
+
+  /**
+   * @return the time the shared database took to start, starting it if needed
+   */
+  public Duration getStartupTime() {
+    return SharedDatabase.INSTANCE.startupTime;
+  }
+
+  /**
+   * @return the time the database took to be reset after the last test run by this rule
+   */
+  public Duration getLastResetTime() {
+    return lastResetTime;
+  }
+
+  /**
+   * @return the time the shared database took to be reset after all the tests run so far in the JVM, by any rule
+   */
+  public Duration getTotalResetTime() {
+    return Duration.ofNanos(SharedDatabase.INSTANCE.totalResetNanos.get());
+  }
+
+  @Override
+  public Statement apply(Statement base, Description description) {
+    return new Statement() {
+      @Override
+      public void evaluate() throws Throwable {
+        GraphDatabaseService graph = getGraphDatabaseService();
+        if (reporter != null && SharedDatabase.INSTANCE.startupReported.compareAndSet(false, true)) {
+          reporter.accept(String.format("Started graph database in %d ms", getStartupTime().toMillis()));
+        }
+        if (isolation == Isolation.ROLLBACK) {
+          evaluateRollingBack(base, graph, description);
+        } else {
+          evaluateCleaningUp(base, graph, description);
+        }
+      }
+    };
+  }
+
+  private void evaluateRollingBack(Statement base, GraphDatabaseService graph, Description description)
+      throws Throwable {
+    Transaction transaction = graph.beginTx();
+    try {
+      base.evaluate();
+    } finally {
+      long start = System.nanoTime();
+      transaction.failure();
+      transaction.close();
+      reset(description, System.nanoTime() - start);
+    }
+  }
+
+  private void evaluateCleaningUp(Statement base, GraphDatabaseService graph, Description description)
+      throws Throwable {
+    try {
+      base.evaluate();
+    } finally {
+      long start = System.nanoTime();
+      cleanUp(graph);
+      reset(description, System.nanoTime() - start);
+    }
+  }
+
+  private void reset(Description description, long resetNanos) {
+    lastResetTime = Duration.ofNanos(resetNanos);
+    SharedDatabase.INSTANCE.totalResetNanos.addAndGet(resetNanos);
+    if (reporter != null) {
+      reporter.accept(String.format(Locale.ROOT, "Reset graph database after %s in %.3f ms",
+                                    description.getDisplayName(), lastResetTime.toNanos() / 1_000_000.0));
+    }
+  }
+
+  private static void cleanUp(GraphDatabaseService graph) {
+    try (Transaction transaction = graph.beginTx()) {
+      graph.execute("MATCH (n) DETACH DELETE n").close();
+      transaction.success();
+    }
+    try (Transaction transaction = graph.beginTx()) {
+      for (ConstraintDefinition constraint : graph.schema().getConstraints()) {
+        constraint.drop();
+      }
+      for (IndexDefinition index : graph.schema().getIndexes()) {
+        if (!index.isConstraintIndex()) {
+          index.drop();
+        }
+      }
+      transaction.success();
+    }
+  }
+
+  /**
+   * Lazily started database, one per JVM, along with the timings gathered by all the rules using it.
+   */
+  private static final class SharedDatabase {
+
+    private static final SharedDatabase INSTANCE = new SharedDatabase();
+
+    private final GraphDatabaseService graph;
+    private final Duration startupTime;
+    private final AtomicBoolean startupReported = new AtomicBoolean();
+    private final AtomicLong totalResetNanos = new AtomicLong();
+
+    private SharedDatabase() {
+      long start = System.nanoTime();
+      Path directory = StoreDirectories.create();
+      graph = new GraphDatabaseFactory()
+          .newEmbeddedDatabaseBuilder(directory.toFile())
+          .setConfig(GraphDatabaseSettings.pagecache_memory, "16m")
+          .setConfig(GraphDatabaseSettings.keep_logical_logs, "false")
+          .setConfig(UdcSettings.udc_enabled, "false")
+          .newGraphDatabase();
+      startupTime = Duration.ofNanos(System.nanoTime() - start);
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+        graph.shutdown();
+        StoreDirectories.delete(directory);
+      }, "assertj-neo4j-graph-database-shutdown"));
+    }
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Result;
+
+import static org.assertj.neo4j.error.ShouldHaveEntityCount.shouldHaveNodeCount;
+import static org.assertj.neo4j.error.ShouldHaveEntityCount.shouldHaveRelationshipCount;
+
+/**
+ * Assertions for Neo4J {@link GraphDatabaseService}
+ * <p>
+ * Counts are only ever read through the query shapes Cypher answers from the count store, in constant time whatever
+ * the size of the graph: nodes with at most one label and relationships with at most one type and one label on either
+ * of their ends.
+ */
+public class GraphDatabaseServiceAssert extends AbstractAssert<GraphDatabaseServiceAssert, GraphDatabaseService> {
+
+  protected GraphDatabaseServiceAssert(GraphDatabaseService actual) {
+    super(actual, GraphDatabaseServiceAssert.class);
+  }
+
+  private static void checkCountIsPositive(long count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("The count to compare against should be positive.");
+    }
+  }
+
+  private static String labelPattern(String label) {
+    return label == null ? "" : ":" + escape(label);
+  }
+
+  private static String escape(String name) {
+    return "`" + name.replace("`", "``") + "`";
+  }
+
+  public GraphDatabaseService getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the actual {@link GraphDatabaseService} has the given number of nodes<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * // [...] creates 200 nodes
+   *
+   * assertThat(graph).hasNodeCount(200);
+   * </pre>
+   *
+   * If the <code>nodeCount</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param nodeCount the expected number of nodes of the actual {@link GraphDatabaseService}
+   * @return this {@link GraphDatabaseServiceAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>nodeCount</code> is strictly negative.
+   * @throws AssertionError if the actual {@link GraphDatabaseService} has a different number of nodes
+   */
+  public GraphDatabaseServiceAssert hasNodeCount(long nodeCount) {
+    return hasNodeCount(null, nodeCount);
+  }
+
+  /**
+   * Verifies that the actual {@link GraphDatabaseService} has the given number of nodes with the given label<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * // [...] creates 200 DOUGHNUT nodes
+   *
+   * assertThat(graph).hasNodeCount(&quot;DOUGHNUT&quot;, 200);
+   * </pre>
+   *
+   * A {@code null} <code>label</code> counts all the nodes.<br/>
+   * If the <code>nodeCount</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param label the label of the nodes to count
+   * @param nodeCount the expected number of nodes with the given label
+   * @return this {@link GraphDatabaseServiceAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>nodeCount</code> is strictly negative.
+   * @throws AssertionError if the actual {@link GraphDatabaseService} has a different number of nodes with the given
+   *           label
+   */
+  public GraphDatabaseServiceAssert hasNodeCount(String label, long nodeCount) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkCountIsPositive(nodeCount);
+    String pattern = String.format("(n%s)", labelPattern(label));
+    long actualCount = count(String.format("MATCH %s RETURN count(n) AS count", pattern));
+    if (actualCount != nodeCount) {
+      throw Failures.instance().failure(info, shouldHaveNodeCount(pattern, actualCount, nodeCount));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@link GraphDatabaseService} has the given number of relationships of the given type
+   * between nodes with the given labels<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * // [...] creates 200 DOUGHNUT nodes, each of them TOPPED_WITH one node
+   *
+   * assertThat(graph).hasRelationshipCount(&quot;DOUGHNUT&quot;, &quot;TOPPED_WITH&quot;, null, 200);
+   * </pre>
+   *
+   * A {@code null} <code>startLabel</code>, <code>type</code> or <code>endLabel</code> matches any label or type. As
+   * the count store does not keep relationship counts by both start and end labels, at least one of them must be
+   * {@code null}, otherwise an {@link IllegalArgumentException} is thrown.<br/>
+   * If the <code>relationshipCount</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param startLabel the label of the start nodes of the relationships to count
+   * @param type the type of the relationships to count
+   * @param endLabel the label of the end nodes of the relationships to count
+   * @param relationshipCount the expected number of relationships
+   * @return this {@link GraphDatabaseServiceAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if both <code>startLabel</code> and <code>endLabel</code> are given.
+   * @throws IllegalArgumentException if <code>relationshipCount</code> is strictly negative.
+   * @throws AssertionError if the actual {@link GraphDatabaseService} has a different number of matching
+   *           relationships
+   */
+  public GraphDatabaseServiceAssert hasRelationshipCount(String startLabel, String type, String endLabel,
+                                                         long relationshipCount) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (startLabel != null && endLabel != null) {
+      throw new IllegalArgumentException(
+        "Relationships can only be counted by their start label or their end label, not by both");
+    }
+    checkCountIsPositive(relationshipCount);
+    String pattern = String.format("(%s)-[r%s]->(%s)", labelPattern(startLabel), labelPattern(type),
+                                   labelPattern(endLabel));
+    long actualCount = count(String.format("MATCH %s RETURN count(r) AS count", pattern));
+    if (actualCount != relationshipCount) {
+      throw Failures.instance().failure(info, shouldHaveRelationshipCount(pattern, actualCount, relationshipCount));
+    }
+    return this;
+  }
+
+  /**
+   * Navigates to bulk assertions on all the nodes with the given label of the actual {@link GraphDatabaseService}.<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * assertThat(graph).nodesWithLabel(&quot;ACCOUNT&quot;).allHavePropertyKey(&quot;iban&quot;);
+   * </pre>
+   *
+   * If the <code>label</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param label the label of the nodes to check
+   * @return a new {@link NodesWithLabelAssert} for the nodes with the given label
+   *
+   * @throws IllegalArgumentException if <code>label</code> is {@code null}.
+   * @throws AssertionError if the actual {@link GraphDatabaseService} is {@code null}.
+   */
+  public NodesWithLabelAssert nodesWithLabel(String label) {
+    Objects.instance().assertNotNull(info, actual);
+
+    return new NodesWithLabelAssert(actual, label);
+  }
+
+  /**
+   * Runs the given code on the current thread and navigates to assertions on the Cypher queries it executed through
+   * the actual {@link GraphDatabaseService}.<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = Assertions.countingQueries(new TestGraphDatabaseFactory().newImpermanentDatabase());
+   * DoughnutService service = new DoughnutService(graph);
+   *
+   * assertThat(graph).whileRunning(() -&gt; service.loadAll()).executedAtMost(3).queries();
+   * </pre>
+   *
+   * The actual {@link GraphDatabaseService} must come from {@link Assertions#countingQueries(GraphDatabaseService)},
+   * and only the queries executed by the current thread are counted.<br/>
+   * If the <code>code</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param code the code to record the queries of
+   * @return a new {@link ExecutedQueriesAssert} for the queries executed by the given code
+   *
+   * @throws IllegalArgumentException if <code>code</code> is {@code null}.
+   * @throws IllegalStateException if the actual {@link GraphDatabaseService} does not count queries.
+   * @throws AssertionError if the actual {@link GraphDatabaseService} is {@code null}.
+   */
+  public ExecutedQueriesAssert whileRunning(Runnable code) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (code == null) {
+      throw new IllegalArgumentException("The code to run should not be null");
+    }
+    if (!(actual instanceof QueryCountingGraphDatabaseService)) {
+      throw new IllegalStateException(
+        "The graph database should come from Assertions.countingQueries(GraphDatabaseService) to count its queries");
+    }
+    return new ExecutedQueriesAssert(((QueryCountingGraphDatabaseService) actual).record(code));
+  }
+
+  private long count(String query) {
+    try (Result result = actual.execute(query)) {
+      return ((Number) result.next().get("count")).longValue();
+    }
+  }
+}
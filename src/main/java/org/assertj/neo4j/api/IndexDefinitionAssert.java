@@ -15,12 +15,19 @@ package org.assertj.neo4j.api;
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.Objects;
+import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.graphdb.Label;
 import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema.IndexState;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.neo4j.error.ShouldHaveIndexState.shouldBecomeOnlineWithin;
+import static org.assertj.neo4j.error.ShouldHaveIndexState.shouldHaveIndexState;
+import static org.assertj.neo4j.error.ShouldHaveIndexState.shouldHaveIndexStateButFailed;
 import static org.assertj.neo4j.error.ShouldHaveLabel.shouldHaveLabel;
 import static org.assertj.neo4j.error.ShouldHavePropertyKeys.shouldHavePropertyKeys;
 import static org.assertj.neo4j.error.ShouldNotHaveLabel.shouldNotHaveLabel;
@@ -35,6 +42,12 @@ import static org.assertj.neo4j.error.ShouldNotHavePropertyKeys.shouldNotHavePro
  */
 public class IndexDefinitionAssert extends AbstractAssert<IndexDefinitionAssert, IndexDefinition> {
 
+  private static final long INITIAL_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+  private GraphDatabaseService graph;
+  private Duration waitTimeUntilOnline;
+
   protected IndexDefinitionAssert(IndexDefinition actual) {
     super(actual, IndexDefinitionAssert.class);
   }
@@ -321,6 +334,186 @@ public class IndexDefinitionAssert extends AbstractAssert<IndexDefinitionAssert,
     return checkPropertyKeyAbsence(propertyKeys);
   }
 
+  /**
+   * Sets the {@link GraphDatabaseService} the actual {@link IndexDefinition} belongs to, whose schema tells the state
+   * of the index.
+   * <p>
+   * If the <code>graph</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   *
+   * @param graph the graph database of the actual {@link IndexDefinition}
+   * @return this {@link IndexDefinitionAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>graph</code> is {@code null}.
+   */
+  public IndexDefinitionAssert inGraph(GraphDatabaseService graph) {
+    if (graph == null) {
+      throw new IllegalArgumentException("The graph database of the index should not be null");
+    }
+    this.graph = graph;
+    return this;
+  }
+
+  /**
+   * Returns how long the last successful {@link #becomesOnlineWithin(Duration)} waited for the actual
+   * {@link IndexDefinition} to be online, {@code null} if it has not succeeded yet.
+   * <p>
+   * The wait is measured from the call to {@link #becomesOnlineWithin(Duration)}, not from the creation of the index,
+   * until the poll that found the index online. It is an upper bound of the time the index still needed to be online
+   * at the time of the call, by at most the 20 ms between two polls.
+   *
+   * @return the time waited for the index to be online
+   */
+  public Duration getWaitTimeUntilOnline() {
+    return waitTimeUntilOnline;
+  }
+
+  /**
+   * Verifies that the actual {@link IndexDefinition} is online, and can serve queries<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * IndexDefinition indexDefinition = graph.schema()
+   *    .indexFor(Label.label(&quot;Hulk&quot;))
+   *    .on(&quot;name&quot;).create();
+   * graph.schema().awaitIndexesOnline(10, TimeUnit.SECONDS);
+   *
+   * assertThat(indexDefinition).inGraph(graph).isOnline();
+   * </pre>
+   *
+   * If no graph database was given with {@link #inGraph(GraphDatabaseService)}, an {@link IllegalStateException} is
+   * thrown.
+   * <p>
+   *
+   * @return this {@link IndexDefinitionAssert} for assertions chaining
+   *
+   * @throws IllegalStateException if the graph database of the index is unknown.
+   * @throws AssertionError if the actual {@link IndexDefinition} is not online
+   */
+  public IndexDefinitionAssert isOnline() {
+    return hasState(IndexState.ONLINE);
+  }
+
+  /**
+   * Verifies that the actual {@link IndexDefinition} is still populating<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * IndexDefinition indexDefinition = graph.schema()
+   *    .indexFor(Label.label(&quot;Hulk&quot;))
+   *    .on(&quot;name&quot;).create();
+   *
+   * assertThat(indexDefinition).inGraph(graph).isPopulating();
+   * </pre>
+   *
+   * If no graph database was given with {@link #inGraph(GraphDatabaseService)}, an {@link IllegalStateException} is
+   * thrown.
+   * <p>
+   *
+   * @return this {@link IndexDefinitionAssert} for assertions chaining
+   *
+   * @throws IllegalStateException if the graph database of the index is unknown.
+   * @throws AssertionError if the actual {@link IndexDefinition} is not populating
+   */
+  public IndexDefinitionAssert isPopulating() {
+    return hasState(IndexState.POPULATING);
+  }
+
+  /**
+   * Verifies that the population of the actual {@link IndexDefinition} failed<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * IndexDefinition indexDefinition = graph.schema()
+   *    .indexFor(Label.label(&quot;Hulk&quot;))
+   *    .on(&quot;name&quot;).create();
+   *
+   * assertThat(indexDefinition).inGraph(graph).isFailed();
+   * </pre>
+   *
+   * If no graph database was given with {@link #inGraph(GraphDatabaseService)}, an {@link IllegalStateException} is
+   * thrown.
+   * <p>
+   *
+   * @return this {@link IndexDefinitionAssert} for assertions chaining
+   *
+   * @throws IllegalStateException if the graph database of the index is unknown.
+   * @throws AssertionError if the actual {@link IndexDefinition} has not failed
+   */
+  public IndexDefinitionAssert isFailed() {
+    return hasState(IndexState.FAILED);
+  }
+
+  /**
+   * Verifies that the actual {@link IndexDefinition} is online, or becomes online before the given timeout
+   * elapses<br/>
+   * <p>
+   * The state of the index is polled, in a transaction of its own unless an {@link AssertionSession} is open, first
+   * after 1 ms then backing off twice longer each time, up to 20 ms between polls. The time waited for the index to
+   * be online is then available from {@link #getWaitTimeUntilOnline()}. Failures report how far the population went,
+   * or why it failed.
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * IndexDefinition indexDefinition = graph.schema()
+   *    .indexFor(Label.label(&quot;Hulk&quot;))
+   *    .on(&quot;name&quot;).create();
+   *
+   * assertThat(indexDefinition).inGraph(graph).becomesOnlineWithin(Duration.ofSeconds(10));
+   * </pre>
+   *
+   * If the <code>timeout</code> is {@code null} or negative, an {@link IllegalArgumentException} is thrown.<br/>
+   * If no graph database was given with {@link #inGraph(GraphDatabaseService)}, an {@link IllegalStateException} is
+   * thrown.
+   * <p>
+   *
+   * @param timeout the time the actual {@link IndexDefinition} is given to become online
+   * @return this {@link IndexDefinitionAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>timeout</code> is {@code null} or negative.
+   * @throws IllegalStateException if the graph database of the index is unknown.
+   * @throws AssertionError if the actual {@link IndexDefinition} fails or is still populating after the timeout
+   */
+  public IndexDefinitionAssert becomesOnlineWithin(Duration timeout) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (timeout == null || timeout.isNegative()) {
+      throw new IllegalArgumentException("The timeout to wait for the index should not be null nor negative");
+    }
+    checkGraphIsKnown();
+    long start = System.nanoTime();
+    long deadline = start + timeout.toNanos();
+    long backoff = INITIAL_BACKOFF_NANOS;
+    IndexState state = state();
+    while (state == IndexState.POPULATING) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0 || !sleep(Math.min(backoff, remaining))) {
+        break;
+      }
+      backoff = Math.min(2 * backoff, MAX_BACKOFF_NANOS);
+      state = state();
+    }
+    if (state == IndexState.FAILED) {
+      throw Failures.instance().failure(info, shouldHaveIndexStateButFailed(actual, IndexState.ONLINE, failure()));
+    }
+    if (state != IndexState.ONLINE) {
+      float completedPercentage = AssertionSession.inTransaction(graph, () -> graph.schema()
+                                                                                   .getIndexPopulationProgress(actual)
+                                                                                   .getCompletedPercentage());
+      throw Failures.instance().failure(info, shouldBecomeOnlineWithin(actual, timeout.toMillis(),
+                                                                       completedPercentage));
+    }
+    waitTimeUntilOnline = Duration.ofNanos(System.nanoTime() - start);
+    return this;
+  }
+
   private IndexDefinitionAssert checkPropertyKeyPresence(Iterable<String> propertyKeys) {
     List<String> missingPropertyKeys = Iterables.difference(propertyKeys, actual.getPropertyKeys());
     if (missingPropertyKeys.size() > 0) {
@@ -337,5 +530,41 @@ public class IndexDefinitionAssert extends AbstractAssert<IndexDefinitionAssert,
     return this;
   }
 
-}
+  private IndexDefinitionAssert hasState(IndexState expectedState) {
+    Objects.instance().assertNotNull(info, actual);
 
+    checkGraphIsKnown();
+    IndexState state = state();
+    if (state == expectedState) {
+      return this;
+    }
+    if (state == IndexState.FAILED) {
+      throw Failures.instance().failure(info, shouldHaveIndexStateButFailed(actual, expectedState, failure()));
+    }
+    throw Failures.instance().failure(info, shouldHaveIndexState(actual, expectedState, state));
+  }
+
+  private void checkGraphIsKnown() {
+    if (graph == null) {
+      throw new IllegalStateException("The graph database of the index should be given with inGraph(graph) first");
+    }
+  }
+
+  private IndexState state() {
+    return AssertionSession.inTransaction(graph, () -> graph.schema().getIndexState(actual));
+  }
+
+  private String failure() {
+    return AssertionSession.inTransaction(graph, () -> graph.schema().getIndexFailure(actual));
+  }
+
+  private static boolean sleep(long nanos) {
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
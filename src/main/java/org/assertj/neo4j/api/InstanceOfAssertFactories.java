@@ -14,6 +14,8 @@ package org.assertj.neo4j.api;
 
 import org.assertj.core.api.Assert;
 import org.assertj.core.api.InstanceOfAssertFactory;
+import org.neo4j.graphdb.ExecutionPlanDescription;
+import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Path;
 import org.neo4j.graphdb.PropertyContainer;
@@ -22,6 +24,7 @@ import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.Result;
 import org.neo4j.graphdb.schema.ConstraintDefinition;
 import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema;
 
 /**
  * Neo4j {@link InstanceOfAssertFactory InstanceOfAssertFactories} for {@link Assert#asInstanceOf(InstanceOfAssertFactory)}.
@@ -66,6 +69,30 @@ public interface InstanceOfAssertFactories {
   InstanceOfAssertFactory<QueryStatistics, QueryStatisticsAssert> QUERY_STATISTICS = new InstanceOfAssertFactory<>(
     QueryStatistics.class,
     Assertions::assertThat);
+  /**
+   * {@link InstanceOfAssertFactory} for an {@link ExecutionPlanDescription}.
+   */
+  InstanceOfAssertFactory<ExecutionPlanDescription, ExecutionPlanAssert> EXECUTION_PLAN_DESCRIPTION = new InstanceOfAssertFactory<>(
+    ExecutionPlanDescription.class,
+    Assertions::assertThat);
+  /**
+   * {@link InstanceOfAssertFactory} for a {@link GraphDatabaseService}.
+   */
+  InstanceOfAssertFactory<GraphDatabaseService, GraphDatabaseServiceAssert> GRAPH_DATABASE_SERVICE = new InstanceOfAssertFactory<>(
+    GraphDatabaseService.class,
+    Assertions::assertThat);
+  /**
+   * {@link InstanceOfAssertFactory} for {@link GraphChanges}.
+   */
+  InstanceOfAssertFactory<GraphChanges, GraphChangesAssert> GRAPH_CHANGES = new InstanceOfAssertFactory<>(
+    GraphChanges.class,
+    Assertions::assertThat);
+  /**
+   * {@link InstanceOfAssertFactory} for a {@link Schema}.
+   */
+  InstanceOfAssertFactory<Schema, SchemaAssert> SCHEMA = new InstanceOfAssertFactory<>(
+    Schema.class,
+    Assertions::assertThat);
 
   /**
    * {@link InstanceOfAssertFactory} for a {@link PropertyContainer}.
@@ -12,16 +12,28 @@
  */
 package org.assertj.neo4j.api;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Set operations keeping the order of their left operand. The right operand is read once into a hash set, each
+ * operation is linear in the size of both operands.
+ */
 class Iterables {
 
   public static <T> List<T> difference(Iterable<T> left, Iterable<T> right) {
-    return Streams.create(left).filter(key -> Streams.create(right).noneMatch(key::equals)).collect(Collectors.toList());
+    Set<T> rightValues = toSet(right);
+    return Streams.create(left).filter(key -> !rightValues.contains(key)).collect(Collectors.toList());
   }
 
   public static <T> List<T> intersection(Iterable<T> left, Iterable<T> right) {
-    return Streams.create(left).filter(key -> Streams.create(right).anyMatch(key::equals)).collect(Collectors.toList());
+    Set<T> rightValues = toSet(right);
+    return Streams.create(left).filter(rightValues::contains).collect(Collectors.toList());
+  }
+
+  private static <T> Set<T> toSet(Iterable<T> values) {
+    return Streams.create(values).collect(Collectors.toCollection(HashSet::new));
   }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import java.time.Duration;
+
+/**
+ * Histogram of latencies in nanoseconds, in the spirit of HdrHistogram: values are counted in buckets whose width
+ * grows with their magnitude so that every recorded value is known within 1/64 of its actual value.
+ * <p>
+ * All the buckets are allocated upfront, recording a value never allocates.
+ */
+class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 7;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+  private static final int BUCKET_COUNT = Long.SIZE - SUB_BUCKET_BITS;
+
+  private final long[] counts = new long[SUB_BUCKET_COUNT + (BUCKET_COUNT - 1) * SUB_BUCKET_HALF_COUNT];
+  private long totalCount;
+  private long max;
+
+  void record(long nanos) {
+    long value = Math.max(0, nanos);
+    counts[indexOf(value)]++;
+    totalCount++;
+    max = Math.max(max, value);
+  }
+
+  long totalCount() {
+    return totalCount;
+  }
+
+  Duration max() {
+    return Duration.ofNanos(max);
+  }
+
+  /**
+   * Returns the latency under which the given percentage of the recorded values fall, rounded up to the upper bound
+   * of its bucket but never above the largest recorded value.
+   */
+  Duration percentile(double percentile) {
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+    long cumulativeCount = 0;
+    for (int index = 0; index < counts.length; index++) {
+      cumulativeCount += counts[index];
+      if (cumulativeCount >= rank) {
+        return Duration.ofNanos(Math.min(max, highestValueAt(index)));
+      }
+    }
+    return max();
+  }
+
+  private static int indexOf(long value) {
+    int bucket = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+    if (bucket == 0) {
+      return (int) value;
+    }
+    int subBucket = (int) (value >>> bucket);
+    return SUB_BUCKET_COUNT + (bucket - 1) * SUB_BUCKET_HALF_COUNT + subBucket - SUB_BUCKET_HALF_COUNT;
+  }
+
+  private static long highestValueAt(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int bucket = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+    long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+    return ((subBucket + 1) << bucket) - 1;
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import java.util.Arrays;
+
+/**
+ * Set of positive {@code long} values, such as entity ids, kept in an open addressing hash table without boxing them.
+ */
+class LongSet {
+
+  private static final long EMPTY = -1;
+  private static final int INITIAL_CAPACITY = 16;
+
+  private long[] table = newTable(INITIAL_CAPACITY);
+  private int size;
+
+  private static long[] newTable(int capacity) {
+    long[] table = new long[capacity];
+    Arrays.fill(table, EMPTY);
+    return table;
+  }
+
+  private static int slot(long value, int mask) {
+    long hash = value * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  boolean add(long value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Only positive values can be added: " + value);
+    }
+    if (2 * (size + 1) > table.length) {
+      rehash(table.length * 2);
+    }
+    return insert(table, value);
+  }
+
+  void addAll(LongSet values) {
+    for (long value : values.table) {
+      if (value != EMPTY) {
+        add(value);
+      }
+    }
+  }
+
+  boolean contains(long value) {
+    int mask = table.length - 1;
+    for (int slot = slot(value, mask); table[slot] != EMPTY; slot = (slot + 1) & mask) {
+      if (table[slot] == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * @return the values of this set, in ascending order
+   */
+  long[] toArray() {
+    long[] values = new long[size];
+    int index = 0;
+    for (long value : table) {
+      if (value != EMPTY) {
+        values[index++] = value;
+      }
+    }
+    Arrays.sort(values);
+    return values;
+  }
+
+  private boolean insert(long[] table, long value) {
+    int mask = table.length - 1;
+    int slot = slot(value, mask);
+    while (table[slot] != EMPTY) {
+      if (table[slot] == value) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    table[slot] = value;
+    size++;
+    return true;
+  }
+
+  private void rehash(int capacity) {
+    long[] oldTable = table;
+    table = newTable(capacity);
+    size = 0;
+    for (long value : oldTable) {
+      if (value != EMPTY) {
+        insert(table, value);
+      }
+    }
+  }
+}
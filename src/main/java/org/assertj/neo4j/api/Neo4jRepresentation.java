@@ -0,0 +1,210 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.core.presentation.StandardRepresentation;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Path;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Representation of Neo4j entities used by {@link PathAssert} and {@link ResultAssert} failure messages, bounded so
+ * that failing on a huge {@link Path} or {@link org.neo4j.graphdb.Result} does not format all of it.
+ * <p>
+ * Only the first elements of paths and results, and the first properties of nodes and relationships are formatted.
+ * Like any representation, nothing is formatted until a failure message is built. Nodes and relationships read their
+ * labels, type and properties in a transaction, unless they are snapshots, their formatted form is kept for the
+ * lifetime of the representation so that a node found several times in a path is only read once.
+ * <p>
+ * The number of elements follows {@link StandardRepresentation#getMaxElementsForPrinting()} by default, the number of
+ * properties has its own global bound. Both can be changed globally, or for one assertion:
+ *
+ * <pre>
+ * StandardRepresentation.setMaxElementsForPrinting(20);
+ * Neo4jRepresentation.setMaxPropertiesForPrinting(5);
+ *
+ * assertThat(path).withRepresentation(new Neo4jRepresentation(5, 3)).hasLength(4);
+ * </pre>
+ */
+public class Neo4jRepresentation extends StandardRepresentation {
+
+  private static final int DEFAULT_MAX_PROPERTIES = 10;
+
+  private static volatile int maxPropertiesForPrinting = DEFAULT_MAX_PROPERTIES;
+
+  private final int maxElements;
+  private final int maxProperties;
+  private Map<Long, String> formattedNodes;
+  private Map<Long, String> formattedRelationships;
+
+  /**
+   * Creates a representation with the global bounds.
+   */
+  public Neo4jRepresentation() {
+    this(getMaxElementsForPrinting(), maxPropertiesForPrinting);
+  }
+
+  /**
+   * Creates a representation with the given bounds.
+   *
+   * @param maxElements the number of elements of a path or result to format
+   * @param maxProperties the number of properties of a node or relationship to format
+   * @throws IllegalArgumentException if <code>maxElements</code> or <code>maxProperties</code> is strictly negative.
+   */
+  public Neo4jRepresentation(int maxElements, int maxProperties) {
+    checkPositive(maxElements, "The maximum number of elements to print should be positive.");
+    checkPositive(maxProperties, "The maximum number of properties to print should be positive.");
+    this.maxElements = maxElements;
+    this.maxProperties = maxProperties;
+  }
+
+  /**
+   * Sets the number of properties of a node or relationship formatted by the representations created afterwards, 10
+   * by default.
+   *
+   * @param maxProperties the number of properties to format
+   * @throws IllegalArgumentException if <code>maxProperties</code> is strictly negative.
+   */
+  public static void setMaxPropertiesForPrinting(int maxProperties) {
+    checkPositive(maxProperties, "The maximum number of properties to print should be positive.");
+    maxPropertiesForPrinting = maxProperties;
+  }
+
+  /**
+   * Restores the default global bounds, the ones of {@link StandardRepresentation} included.
+   */
+  public static void resetDefaults() {
+    StandardRepresentation.resetDefaults();
+    maxPropertiesForPrinting = DEFAULT_MAX_PROPERTIES;
+  }
+
+  @Override
+  public String toStringOf(Object object) {
+    if (object == null || hasCustomFormatterFor(object)) {
+      return super.toStringOf(object);
+    }
+    if (object instanceof Node) {
+      return toStringOf((Node) object);
+    }
+    if (object instanceof Relationship) {
+      return toStringOf((Relationship) object);
+    }
+    if (object instanceof Path) {
+      Path path = (Path) object;
+      Iterator<PropertyContainer> elements = path.iterator();
+      return elements == null ? super.toStringOf(path) : format(elements, 2L * path.length() + 1);
+    }
+    if (object instanceof ResultRows) {
+      ResultRows rows = (ResultRows) object;
+      return format(rows, rows.size());
+    }
+    return super.toStringOf(object);
+  }
+
+  private String toStringOf(Node node) {
+    GraphDatabaseService graph = node.getGraphDatabase();
+    if (graph == null && !(node instanceof NodeSnapshot)) {
+      return String.valueOf(node);
+    }
+    if (formattedNodes == null) {
+      formattedNodes = new HashMap<>();
+    }
+    return formattedNodes.computeIfAbsent(node.getId(), id -> read(graph, node, () -> {
+      StringBuilder text = new StringBuilder("(").append(id);
+      for (Label label : node.getLabels()) {
+        text.append(':').append(label.name());
+      }
+      return appendProperties(text, node).append(')').toString();
+    }));
+  }
+
+  private String toStringOf(Relationship relationship) {
+    GraphDatabaseService graph = relationship.getGraphDatabase();
+    if (graph == null && !(relationship instanceof RelationshipSnapshot)) {
+      return String.valueOf(relationship);
+    }
+    if (formattedRelationships == null) {
+      formattedRelationships = new HashMap<>();
+    }
+    return formattedRelationships.computeIfAbsent(relationship.getId(), id -> read(graph, relationship, () -> {
+      StringBuilder text = new StringBuilder("(").append(relationship.getStartNode().getId()).append(")-[")
+                                                 .append(id).append(':').append(relationship.getType().name());
+      return appendProperties(text, relationship).append("]->(").append(relationship.getEndNode().getId())
+                                                 .append(')').toString();
+    }));
+  }
+
+  /**
+   * Falls back to the entity own representation when it cannot be read, once deleted for instance.
+   */
+  private static String read(GraphDatabaseService graph, PropertyContainer entity, Supplier<String> format) {
+    try {
+      return AssertionSession.inTransaction(graph, format);
+    } catch (RuntimeException e) {
+      return String.valueOf(entity);
+    }
+  }
+
+  private StringBuilder appendProperties(StringBuilder text, PropertyContainer entity) {
+    Iterator<String> keys = entity.getPropertyKeys().iterator();
+    if (!keys.hasNext()) {
+      return text;
+    }
+    text.append(" {");
+    for (int printed = 0; keys.hasNext(); printed++) {
+      String key = keys.next();
+      if (printed > 0) {
+        text.append(", ");
+      }
+      if (printed == maxProperties) {
+        text.append("...");
+        break;
+      }
+      text.append(key).append(": ").append(super.toStringOf(entity.getProperty(key)));
+    }
+    return text.append('}');
+  }
+
+  private String format(Iterable<?> elements, long size) {
+    return format(elements.iterator(), size);
+  }
+
+  private String format(Iterator<?> iterator, long size) {
+    StringBuilder text = new StringBuilder("[");
+    for (int printed = 0; iterator.hasNext(); printed++) {
+      if (printed > 0) {
+        text.append(", ");
+      }
+      if (printed == maxElements) {
+        text.append("... ").append(size - printed).append(" more");
+        break;
+      }
+      text.append(toStringOf(iterator.next()));
+    }
+    return text.append(']').toString();
+  }
+
+  private static void checkPositive(int value, String message) {
+    if (value < 0) {
+      throw new IllegalArgumentException(message);
+    }
+  }
+}
@@ -14,10 +14,16 @@ package org.assertj.neo4j.api;
 
 import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.Objects;
+import org.neo4j.graphdb.Direction;
 import org.neo4j.graphdb.Label;
 import org.neo4j.graphdb.Node;
-import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.RelationshipType;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.neo4j.error.ShouldHaveDegree.shouldHaveDegree;
+import static org.assertj.neo4j.error.ShouldHaveDegree.shouldHaveDegreeAtMost;
 import static org.assertj.neo4j.error.ShouldHaveLabel.shouldHaveLabel;
 import static org.assertj.neo4j.error.ShouldNotHaveLabel.shouldNotHaveLabel;
 
@@ -173,9 +179,234 @@ public class NodeAssert extends PropertyContainerAssert<NodeAssert, Node> {
     return this;
   }
 
-  private boolean hasFoundLabel(String labelValue) {
-    try (Transaction ignored = actual.getGraphDatabase().beginTx()) {
-      return actual.hasLabel(Label.label(labelValue));
+  /**
+   * Verifies that the actual {@link org.neo4j.graphdb.Node} has the given number of relationships<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Node doughnut = graph.createNode();
+   * doughnut.createRelationshipTo(graph.createNode(), RelationshipType.withName(&quot;TOPPED_WITH&quot;));
+   *
+   * assertThat(doughnut).hasDegree(1);
+   * </pre>
+   *
+   * The degree is read through {@link Node#getDegree()}, which does not go through the relationships of dense nodes.
+   * <br/>
+   * If the <code>degree</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param degree the expected number of relationships of the actual {@link org.neo4j.graphdb.Node}
+   * @return this {@link NodeAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>degree</code> is strictly negative.
+   * @throws AssertionError if the actual {@link org.neo4j.graphdb.Node} has a different number of relationships
+   */
+  public NodeAssert hasDegree(int degree) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkDegreeIsPositive(degree);
+    int actualDegree = actual.getDegree();
+    if (actualDegree != degree) {
+      throw Failures.instance().failure(info, shouldHaveDegree(actual, "all relationships", actualDegree, degree,
+                                                               degreesByType(Direction.BOTH)));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@link org.neo4j.graphdb.Node} has the given number of relationships of the given type
+   * and direction<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Node doughnut = graph.createNode();
+   * RelationshipType toppedWith = RelationshipType.withName(&quot;TOPPED_WITH&quot;);
+   * doughnut.createRelationshipTo(graph.createNode(), toppedWith);
+   *
+   * assertThat(doughnut).hasDegree(toppedWith, Direction.OUTGOING, 1);
+   * </pre>
+   *
+   * The degree is read through {@link Node#getDegree(RelationshipType, Direction)}, which does not go through the
+   * relationships of dense nodes.<br/>
+   * If the <code>type</code> or the <code>direction</code> is {@code null}, an {@link IllegalArgumentException} is
+   * thrown.<br/>
+   * If the <code>degree</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param type the type of the relationships to count
+   * @param direction the direction of the relationships to count
+   * @param degree the expected number of relationships of the given type and direction
+   * @return this {@link NodeAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>type</code> is {@code null}.
+   * @throws IllegalArgumentException if <code>direction</code> is {@code null}.
+   * @throws IllegalArgumentException if <code>degree</code> is strictly negative.
+   * @throws AssertionError if the actual {@link org.neo4j.graphdb.Node} has a different number of relationships of the
+   *           given type and direction
+   */
+  public NodeAssert hasDegree(RelationshipType type, Direction direction, int degree) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkTypeAndDirectionAreNotNull(type, direction);
+    checkDegreeIsPositive(degree);
+    int actualDegree = actual.getDegree(type, direction);
+    if (actualDegree != degree) {
+      throw Failures.instance().failure(info, shouldHaveDegree(actual, relationships(type, direction), actualDegree,
+                                                               degree, degreesByType(direction)));
     }
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@link org.neo4j.graphdb.Node} has at most the given number of relationships<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Node doughnut = graph.createNode();
+   * doughnut.createRelationshipTo(graph.createNode(), RelationshipType.withName(&quot;TOPPED_WITH&quot;));
+   *
+   * assertThat(doughnut).hasDegreeAtMost(10);
+   * </pre>
+   *
+   * The degree is read through {@link Node#getDegree()}, which does not go through the relationships of dense nodes.
+   * <br/>
+   * If the <code>maxDegree</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param maxDegree the maximum number of relationships of the actual {@link org.neo4j.graphdb.Node}
+   * @return this {@link NodeAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>maxDegree</code> is strictly negative.
+   * @throws AssertionError if the actual {@link org.neo4j.graphdb.Node} has more relationships
+   */
+  public NodeAssert hasDegreeAtMost(int maxDegree) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkDegreeIsPositive(maxDegree);
+    int actualDegree = actual.getDegree();
+    if (actualDegree > maxDegree) {
+      throw Failures.instance().failure(info, shouldHaveDegreeAtMost(actual, "all relationships", actualDegree,
+                                                                     maxDegree, degreesByType(Direction.BOTH)));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@link org.neo4j.graphdb.Node} has at most the given number of relationships of the given
+   * type and direction<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Node doughnut = graph.createNode();
+   * RelationshipType toppedWith = RelationshipType.withName(&quot;TOPPED_WITH&quot;);
+   * doughnut.createRelationshipTo(graph.createNode(), toppedWith);
+   *
+   * assertThat(doughnut).hasDegreeAtMost(toppedWith, Direction.OUTGOING, 3);
+   * </pre>
+   *
+   * The degree is read through {@link Node#getDegree(RelationshipType, Direction)}, which does not go through the
+   * relationships of dense nodes.<br/>
+   * If the <code>type</code> or the <code>direction</code> is {@code null}, an {@link IllegalArgumentException} is
+   * thrown.<br/>
+   * If the <code>maxDegree</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param type the type of the relationships to count
+   * @param direction the direction of the relationships to count
+   * @param maxDegree the maximum number of relationships of the given type and direction
+   * @return this {@link NodeAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>type</code> is {@code null}.
+   * @throws IllegalArgumentException if <code>direction</code> is {@code null}.
+   * @throws IllegalArgumentException if <code>maxDegree</code> is strictly negative.
+   * @throws AssertionError if the actual {@link org.neo4j.graphdb.Node} has more relationships of the given type and
+   *           direction
+   */
+  public NodeAssert hasDegreeAtMost(RelationshipType type, Direction direction, int maxDegree) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkTypeAndDirectionAreNotNull(type, direction);
+    checkDegreeIsPositive(maxDegree);
+    int actualDegree = actual.getDegree(type, direction);
+    if (actualDegree > maxDegree) {
+      throw Failures.instance().failure(info, shouldHaveDegreeAtMost(actual, relationships(type, direction),
+                                                                     actualDegree, maxDegree,
+                                                                     degreesByType(direction)));
+    }
+    return this;
+  }
+
+  private static void checkDegreeIsPositive(int degree) {
+    if (degree < 0) {
+      throw new IllegalArgumentException("The degree to compare against should be positive.");
+    }
+  }
+
+  private static void checkTypeAndDirectionAreNotNull(RelationshipType type, Direction direction) {
+    if (type == null) {
+      throw new IllegalArgumentException("The relationship type to look for should not be null");
+    }
+    if (direction == null) {
+      throw new IllegalArgumentException("The direction to look for should not be null");
+    }
+  }
+
+  /**
+   * Reads the labels and properties of the actual {@link org.neo4j.graphdb.Node} once, in a single transaction, and
+   * returns assertions on that immutable snapshot. The assertions chained afterwards never go back to the store for
+   * them nor need a transaction, which makes long chains and failure messages cheap.
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Node node = graph.createNode(Label.label(&quot;DOUGHNUT&quot;));
+   * node.setProperty(&quot;flavour&quot;, &quot;glazed&quot;);
+   * node.setProperty(&quot;weight&quot;, 80);
+   *
+   * assertThat(node).snapshot()
+   *                 .hasLabel(&quot;DOUGHNUT&quot;)
+   *                 .hasProperty(&quot;flavour&quot;, &quot;glazed&quot;)
+   *                 .hasProperty(&quot;weight&quot;, 80);
+   * </pre>
+   *
+   * Degrees are only read by the first degree assertion of the chain, in their own transaction, for every
+   * relationship type and direction of the node at once. Snapshots that are never asked for a degree do not pay for
+   * them.
+   * <p>
+   *
+   * @return a new {@link NodeAssert} on the snapshot of the actual {@link org.neo4j.graphdb.Node}
+   *
+   * @throws AssertionError if the actual {@link org.neo4j.graphdb.Node} is {@code null}.
+   */
+  public NodeAssert snapshot() {
+    Objects.instance().assertNotNull(info, actual);
+
+    Node snapshot = AssertionSession.inTransaction(actual.getGraphDatabase(), () -> NodeSnapshot.of(actual));
+    return onSnapshot(new NodeAssert(snapshot));
+  }
+
+  private static String relationships(RelationshipType type, Direction direction) {
+    return String.format("%s relationships of type %s", direction, type.name());
+  }
+
+  private Map<String, Integer> degreesByType(Direction direction) {
+    Map<String, Integer> degrees = new LinkedHashMap<>();
+    for (RelationshipType type : actual.getRelationshipTypes()) {
+      degrees.put(type.name(), actual.getDegree(type, direction));
+    }
+    return degrees;
+  }
+
+  private boolean hasFoundLabel(String labelValue) {
+    return AssertionSession.inTransaction(actual.getGraphDatabase(), () -> actual.hasLabel(Label.label(labelValue)));
   }
 }
@@ -0,0 +1,172 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.ResourceIterator;
+import org.neo4j.graphdb.Transaction;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Checks all the nodes with a label in parallel.
+ * <p>
+ * The calling thread reads the node ids of the label scan and hands them over in chunks to the workers of a
+ * {@link ForkJoinPool}, each chunk being checked in a read transaction of its own. Only a bounded number of chunks are
+ * in flight at any time. When checking nodes, all the workers stop once the maximum number of failures has been found.
+ */
+class NodeScan {
+
+  static final int CHUNK_SIZE = 10_000;
+
+  private final GraphDatabaseService graph;
+  private final Label label;
+  private final int maxFailures;
+  private final ForkJoinPool pool;
+  private final AtomicBoolean stopped = new AtomicBoolean();
+  private final AtomicInteger failureCount = new AtomicInteger();
+  private final Map<Long, String> failures = new ConcurrentSkipListMap<>();
+
+  NodeScan(GraphDatabaseService graph, Label label, int maxFailures, ForkJoinPool pool) {
+    this.graph = graph;
+    this.label = label;
+    this.maxFailures = maxFailures;
+    this.pool = pool;
+  }
+
+  /**
+   * Returns the description of the failures found by the given check, which describes the failure of a node or
+   * returns {@code null} when the node passes, by node id.
+   */
+  Map<Long, String> failures(Function<Node, String> check) {
+    scan((ids, size) -> check(ids, size, check));
+    return failures;
+  }
+
+  /**
+   * Runs the given action on all the nodes.
+   */
+  void forEach(Consumer<Node> action) {
+    scan((ids, size) -> forEach(ids, size, action));
+  }
+
+  /**
+   * Returns the values the given function computes for the nodes, in no particular order, dropping the negative ones.
+   */
+  long[] values(ToLongFunction<Node> function) {
+    Queue<long[]> chunks = new ConcurrentLinkedQueue<>();
+    scan((ids, size) -> chunks.add(values(ids, size, function)));
+    int length = 0;
+    for (long[] chunk : chunks) {
+      length += chunk.length;
+    }
+    long[] values = new long[length];
+    int offset = 0;
+    for (long[] chunk : chunks) {
+      System.arraycopy(chunk, 0, values, offset, chunk.length);
+      offset += chunk.length;
+    }
+    return values;
+  }
+
+  private void scan(ObjIntConsumer<long[]> chunkTask) {
+    Deque<ForkJoinTask<?>> inFlight = new ArrayDeque<>();
+    AssertionSession.inTransaction(graph, () -> {
+      try (ResourceIterator<Node> nodes = graph.findNodes(label)) {
+        long[] ids = new long[CHUNK_SIZE];
+        int size = 0;
+        while (!stopped.get() && nodes.hasNext()) {
+          ids[size++] = nodes.next().getId();
+          if (size == CHUNK_SIZE) {
+            submit(inFlight, ids, size, chunkTask);
+            ids = new long[CHUNK_SIZE];
+            size = 0;
+          }
+        }
+        if (size > 0) {
+          submit(inFlight, ids, size, chunkTask);
+        }
+      }
+      return null;
+    });
+    while (!inFlight.isEmpty()) {
+      inFlight.poll().join();
+    }
+  }
+
+  private void submit(Deque<ForkJoinTask<?>> inFlight, long[] ids, int size, ObjIntConsumer<long[]> chunkTask) {
+    if (inFlight.size() >= 2 * pool.getParallelism()) {
+      inFlight.poll().join();
+    }
+    inFlight.add(pool.submit(() -> chunkTask.accept(ids, size)));
+  }
+
+  private void check(long[] ids, int size, Function<Node, String> check) {
+    try (Transaction ignored = graph.beginTx()) {
+      for (int i = 0; i < size && !stopped.get(); i++) {
+        String failure = check.apply(graph.getNodeById(ids[i]));
+        if (failure != null) {
+          record(ids[i], failure);
+        }
+      }
+    }
+  }
+
+  private void forEach(long[] ids, int size, Consumer<Node> action) {
+    try (Transaction ignored = graph.beginTx()) {
+      for (int i = 0; i < size; i++) {
+        action.accept(graph.getNodeById(ids[i]));
+      }
+    }
+  }
+
+  private long[] values(long[] ids, int size, ToLongFunction<Node> function) {
+    long[] values = new long[size];
+    int count = 0;
+    try (Transaction ignored = graph.beginTx()) {
+      for (int i = 0; i < size; i++) {
+        long value = function.applyAsLong(graph.getNodeById(ids[i]));
+        if (value >= 0) {
+          values[count++] = value;
+        }
+      }
+    }
+    return count == size ? values : Arrays.copyOf(values, count);
+  }
+
+  private void record(long id, String failure) {
+    int count = failureCount.incrementAndGet();
+    if (count <= maxFailures) {
+      failures.put(id, failure);
+    }
+    if (count >= maxFailures) {
+      stopped.set(true);
+    }
+  }
+}
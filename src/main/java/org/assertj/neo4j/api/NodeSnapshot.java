@@ -0,0 +1,223 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Labels and properties of a {@link Node}, read once. Degrees are only read the first time one of them is asked for,
+ * in their own transaction, and then kept by relationship type and direction. The relationships themselves are not
+ * part of the snapshot.
+ */
+final class NodeSnapshot extends EntitySnapshot implements Node {
+
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final Label[] labels;
+  private Node node;
+  private RelationshipType[] types;
+  // degrees[DIRECTIONS.length * t + d.ordinal()] is the degree of the node for types[t] and the direction d
+  private int[] degrees;
+
+  private NodeSnapshot(Node node) {
+    super(node.getId(), node.getAllProperties());
+    List<Label> nodeLabels = new ArrayList<>();
+    for (Label label : node.getLabels()) {
+      nodeLabels.add(label);
+    }
+    this.labels = nodeLabels.toArray(new Label[0]);
+    this.node = node;
+  }
+
+  /**
+   * Reads the given node, in the current transaction.
+   */
+  static NodeSnapshot of(Node node) {
+    return node instanceof NodeSnapshot ? (NodeSnapshot) node : new NodeSnapshot(node);
+  }
+
+  @Override
+  public boolean hasLabel(Label label) {
+    for (Label nodeLabel : labels) {
+      if (nodeLabel.name().equals(label.name())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Iterable<Label> getLabels() {
+    return Collections.unmodifiableList(Arrays.asList(labels));
+  }
+
+  @Override
+  public void addLabel(Label label) {
+    throw readOnly();
+  }
+
+  @Override
+  public void removeLabel(Label label) {
+    throw readOnly();
+  }
+
+  @Override
+  public Relationship createRelationshipTo(Node otherNode, RelationshipType type) {
+    throw readOnly();
+  }
+
+  @Override
+  public Iterable<Relationship> getRelationships() {
+    throw notSnapshotted();
+  }
+
+  @Override
+  public boolean hasRelationship() {
+    return getDegree() > 0;
+  }
+
+  @Override
+  public Iterable<Relationship> getRelationships(RelationshipType... types) {
+    throw notSnapshotted();
+  }
+
+  @Override
+  public Iterable<Relationship> getRelationships(Direction direction, RelationshipType... types) {
+    throw notSnapshotted();
+  }
+
+  @Override
+  public boolean hasRelationship(RelationshipType... types) {
+    return hasRelationship(Direction.BOTH, types);
+  }
+
+  @Override
+  public boolean hasRelationship(Direction direction, RelationshipType... types) {
+    if (types.length == 0) {
+      return getDegree(direction) > 0;
+    }
+    for (RelationshipType type : types) {
+      if (getDegree(type, direction) > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Iterable<Relationship> getRelationships(Direction direction) {
+    throw notSnapshotted();
+  }
+
+  @Override
+  public boolean hasRelationship(Direction direction) {
+    return getDegree(direction) > 0;
+  }
+
+  @Override
+  public Iterable<Relationship> getRelationships(RelationshipType type, Direction direction) {
+    throw notSnapshotted();
+  }
+
+  @Override
+  public boolean hasRelationship(RelationshipType type, Direction direction) {
+    return getDegree(type, direction) > 0;
+  }
+
+  @Override
+  public Relationship getSingleRelationship(RelationshipType type, Direction direction) {
+    throw notSnapshotted();
+  }
+
+  @Override
+  public Iterable<RelationshipType> getRelationshipTypes() {
+    readDegrees();
+    return Collections.unmodifiableList(Arrays.asList(types));
+  }
+
+  @Override
+  public int getDegree() {
+    return getDegree(Direction.BOTH);
+  }
+
+  @Override
+  public int getDegree(RelationshipType type) {
+    return getDegree(type, Direction.BOTH);
+  }
+
+  @Override
+  public int getDegree(Direction direction) {
+    readDegrees();
+    int degree = 0;
+    for (int t = 0; t < types.length; t++) {
+      degree += degrees[DIRECTIONS.length * t + direction.ordinal()];
+    }
+    return degree;
+  }
+
+  @Override
+  public int getDegree(RelationshipType type, Direction direction) {
+    readDegrees();
+    for (int t = 0; t < types.length; t++) {
+      if (types[t].name().equals(type.name())) {
+        return degrees[DIRECTIONS.length * t + direction.ordinal()];
+      }
+    }
+    return 0;
+  }
+
+  private void readDegrees() {
+    if (node == null) {
+      return;
+    }
+    AssertionSession.inTransaction(node.getGraphDatabase(), () -> {
+      List<RelationshipType> nodeTypes = new ArrayList<>();
+      for (RelationshipType type : node.getRelationshipTypes()) {
+        nodeTypes.add(type);
+      }
+      types = nodeTypes.toArray(new RelationshipType[0]);
+      degrees = new int[DIRECTIONS.length * types.length];
+      for (int t = 0; t < types.length; t++) {
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+          degrees[DIRECTIONS.length * t + d] = node.getDegree(types[t], DIRECTIONS[d]);
+        }
+      }
+      return null;
+    });
+    node = null;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof Node && ((Node) other).getId() == getId();
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(getId());
+  }
+
+  @Override
+  public String toString() {
+    return "Node[" + getId() + "]";
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.neo4j.error.ShouldAllNodesWithLabel.shouldAllHavePropertyKey;
+import static org.assertj.neo4j.error.ShouldAllNodesWithLabel.shouldAllSatisfy;
+import static org.assertj.neo4j.error.ShouldAllNodesWithLabel.shouldHaveUniqueValues;
+import static org.assertj.neo4j.error.ShouldAllNodesWithLabel.shouldNoneHaveLabel;
+
+/**
+ * Assertions on all the nodes with a given label of a Neo4J {@link GraphDatabaseService}
+ * <p>
+ * Nodes are checked in parallel on a {@link ForkJoinPool}, the common pool unless {@link #usingPool(ForkJoinPool)}
+ * says otherwise, in chunks of up to 10,000 nodes each read in a transaction of its own. Checking stops as soon as the
+ * first failing node is found, or the first N ones with {@link #withMaxFailures(int)}. Failures are reported by node
+ * id; when several workers fail concurrently, which nodes are reported is not deterministic.
+ */
+public class NodesWithLabelAssert extends AbstractAssert<NodesWithLabelAssert, GraphDatabaseService> {
+
+  private static final int MAX_DUPLICATE_IDS = 10;
+
+  private final String label;
+  private int maxFailures = 1;
+  private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+  protected NodesWithLabelAssert(GraphDatabaseService actual, String label) {
+    super(actual, NodesWithLabelAssert.class);
+    if (label == null) {
+      throw new IllegalArgumentException("The label to look for should not be null");
+    }
+    this.label = label;
+  }
+
+  public GraphDatabaseService getActual() {
+    return actual;
+  }
+
+  /**
+   * Sets the number of failing nodes to collect before stopping the checks, defaults to 1.
+   * <p>
+   * If the <code>maxFailures</code> is not strictly positive, an {@link IllegalArgumentException} is thrown.
+   *
+   * @param maxFailures the maximum number of failing nodes to report
+   * @return this {@link NodesWithLabelAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>maxFailures</code> is not strictly positive.
+   */
+  public NodesWithLabelAssert withMaxFailures(int maxFailures) {
+    if (maxFailures < 1) {
+      throw new IllegalArgumentException("The maximum number of failures should be strictly positive.");
+    }
+    this.maxFailures = maxFailures;
+    return this;
+  }
+
+  /**
+   * Sets the {@link ForkJoinPool} the nodes are checked on, defaults to {@link ForkJoinPool#commonPool()}.
+   * <p>
+   * If the <code>pool</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   *
+   * @param pool the pool to check the nodes on
+   * @return this {@link NodesWithLabelAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>pool</code> is {@code null}.
+   */
+  public NodesWithLabelAssert usingPool(ForkJoinPool pool) {
+    if (pool == null) {
+      throw new IllegalArgumentException("The pool to check nodes on should not be null");
+    }
+    this.pool = pool;
+    return this;
+  }
+
+  /**
+   * Verifies that all the nodes with the label satisfy the given requirements<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * assertThat(graph).nodesWithLabel(&quot;ACCOUNT&quot;)
+   *                  .allSatisfy(account -&gt; assertThat(account.getProperty(&quot;iban&quot;, null)).isNotNull());
+   * </pre>
+   *
+   * The requirements are run concurrently by several threads, each of them in a transaction of its own.<br/>
+   * If the <code>requirements</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param requirements the requirements every node should satisfy, throwing an {@link AssertionError} otherwise
+   * @return this {@link NodesWithLabelAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>requirements</code> is {@code null}.
+   * @throws AssertionError if one node with the label does not satisfy the given requirements
+   */
+  public NodesWithLabelAssert allSatisfy(Consumer<? super Node> requirements) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (requirements == null) {
+      throw new IllegalArgumentException("The requirements to check nodes against should not be null");
+    }
+    Map<Long, String> failures = failures(node -> {
+      try {
+        requirements.accept(node);
+        return null;
+      } catch (AssertionError e) {
+        return e.getMessage();
+      }
+    });
+    if (!failures.isEmpty()) {
+      throw Failures.instance().failure(info, shouldAllSatisfy(label, failures));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that all the nodes with the label have the given property key<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * assertThat(graph).nodesWithLabel(&quot;ACCOUNT&quot;).allHavePropertyKey(&quot;iban&quot;);
+   * </pre>
+   *
+   * If the <code>key</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param key the property key every node should have
+   * @return this {@link NodesWithLabelAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>key</code> is {@code null}.
+   * @throws AssertionError if one node with the label does not have the given property key
+   */
+  public NodesWithLabelAssert allHavePropertyKey(String key) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (key == null) {
+      throw new IllegalArgumentException("The property key to look for should not be null");
+    }
+    Map<Long, String> failures = failures(node -> node.hasProperty(key) ? null : key);
+    if (!failures.isEmpty()) {
+      throw Failures.instance().failure(info, shouldAllHavePropertyKey(label, key, failures.keySet()));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that none of the nodes with the label have the given other label<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * assertThat(graph).nodesWithLabel(&quot;ACCOUNT&quot;).noneHaveLabel(&quot;CLOSED_ACCOUNT&quot;);
+   * </pre>
+   *
+   * If the <code>otherLabel</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param otherLabel the label no node should have
+   * @return this {@link NodesWithLabelAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>otherLabel</code> is {@code null}.
+   * @throws AssertionError if one node with the label has the given other label
+   */
+  public NodesWithLabelAssert noneHaveLabel(String otherLabel) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (otherLabel == null) {
+      throw new IllegalArgumentException("The label to look for should not be null");
+    }
+    Label other = Label.label(otherLabel);
+    Map<Long, String> failures = failures(node -> node.hasLabel(other) ? otherLabel : null);
+    if (!failures.isEmpty()) {
+      throw Failures.instance().failure(info, shouldNoneHaveLabel(label, otherLabel, failures.keySet()));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that no two nodes with the label have the same values for the given property keys<br/>
+   * <p>
+   * This checks existing data before a uniqueness constraint is created, or for composite keys no constraint can
+   * express. Nodes missing any of the keys are ignored.
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * assertThat(graph).nodesWithLabel(&quot;ACCOUNT&quot;).haveUniqueValuesFor(&quot;iban&quot;);
+   * assertThat(graph).nodesWithLabel(&quot;ACCOUNT&quot;).haveUniqueValuesFor(&quot;bank&quot;, &quot;number&quot;);
+   * </pre>
+   *
+   * Nodes are scanned twice. The first scan only keeps a 64 bits hash of the values of each node, the second one
+   * compares the values of the nodes sharing a hash. Failures report up to the maximum number of failures groups of
+   * nodes sharing values, with the ids of the first 10 nodes of each group.<br/>
+   * If the <code>keys</code> are empty, any of them is {@code null} or repeated, an {@link IllegalArgumentException}
+   * is thrown.
+   * <p>
+   *
+   * @param keys the property keys whose values should be unique among the nodes
+   * @return this {@link NodesWithLabelAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>keys</code> are empty, any of them is {@code null} or repeated.
+   * @throws AssertionError if two nodes with the label have the same values for the given property keys
+   */
+  public NodesWithLabelAssert haveUniqueValuesFor(String... keys) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (keys == null || keys.length == 0) {
+      throw new IllegalArgumentException("The property keys to look for should not be empty");
+    }
+    Set<String> distinctKeys = new HashSet<>();
+    for (String key : keys) {
+      if (key == null) {
+        throw new IllegalArgumentException("The property key to look for should not be null");
+      }
+      if (!distinctKeys.add(key)) {
+        throw new IllegalArgumentException(String.format("The property key to look for <%s> should not be repeated",
+                                                         key));
+      }
+    }
+    DuplicateValues duplicateValues = new DuplicateValues(actual, Label.label(label), keys.clone(), pool);
+    List<long[]> duplicates = duplicateValues.find();
+    if (!duplicates.isEmpty()) {
+      Map<Map<String, Object>, List<Long>> samples = AssertionSession.inTransaction(actual, () -> {
+        Map<Map<String, Object>, List<Long>> nodesByValues = new LinkedHashMap<>();
+        for (long[] ids : duplicates.subList(0, Math.min(maxFailures, duplicates.size()))) {
+          List<Long> nodeIds = new ArrayList<>();
+          for (int i = 0; i < Math.min(ids.length, MAX_DUPLICATE_IDS); i++) {
+            nodeIds.add(ids[i]);
+          }
+          nodesByValues.put(duplicateValues.valuesOf(actual.getNodeById(ids[0])), nodeIds);
+        }
+        return nodesByValues;
+      });
+      throw Failures.instance().failure(info, shouldHaveUniqueValues(label, Arrays.asList(keys), duplicates.size(),
+                                                                     samples));
+    }
+    return this;
+  }
+
+  private Map<Long, String> failures(Function<Node, String> check) {
+    return new NodeScan(actual, Label.label(label), maxFailures, pool).failures(check);
+  }
+}
@@ -37,6 +37,7 @@ public class PathAssert extends IterableAssert<PropertyContainer> {
 
   protected PathAssert(Path actual) {
     super(actual);
+    info.useRepresentation(new Neo4jRepresentation());
   }
 
   private static void checkNullStartNodes(Node actualStart, Node expectedStart) {
@@ -13,11 +13,23 @@
 package org.assertj.neo4j.api;
 
 import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.data.Offset;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.internal.Objects;
 import org.neo4j.graphdb.PropertyContainer;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.neo4j.error.ShouldHaveProperties.shouldHaveOnlyProperties;
+import static org.assertj.neo4j.error.ShouldHaveProperties.shouldHaveProperties;
+import static org.assertj.neo4j.error.ShouldHaveProperties.shouldHavePropertiesSatisfying;
 import static org.assertj.neo4j.error.ShouldHaveProperty.shouldHaveProperty;
+import static org.assertj.neo4j.error.ShouldHaveProperty.shouldHavePropertyOfLength;
 import static org.assertj.neo4j.error.ShouldHavePropertyKey.shouldHavePropertyKey;
 import static org.assertj.neo4j.error.ShouldNotHaveProperty.shouldNotHaveProperty;
 import static org.assertj.neo4j.error.ShouldNotHavePropertyKey.shouldNotHavePropertyKey;
@@ -91,17 +103,23 @@ public class PropertyContainerAssert<A extends PropertyContainerAssert<A, T>, T
   /**
    * Verifies that the actual {@link PropertyContainer} has the given property key with the given value<br/>
    * <p>
+   * Array values are compared element by element, without boxing primitive elements, and failures report the first
+   * index they differ at.
+   * <p>
    * Example:
    *
    * <pre>
    * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
-   * ResourceIterator&lt;String&gt; loveLevelIterator = myExecutionEngine.execute(
-   *     &quot;MATCH (:CHARACTER)-[l:LOVES]-&gt;(:DOUGHNUT) RETURN l.level AS level&quot;).columnAs(&quot;level&quot;);
+   * Node node = graph.createNode();
+   * node.setProperty(&quot;firstName&quot;, &quot;Homer&quot;);
+   * node.setProperty(&quot;samples&quot;, new long[] {3L, 1L, 4L});
    *
-   * assertThat(loveLevelIterator).hasSize(3);
+   * assertThat(node).hasProperty(&quot;firstName&quot;, &quot;Homer&quot;)
+   *                 .hasProperty(&quot;samples&quot;, new long[] {3L, 1L, 4L});
    * </pre>
    *
-   * If the given <code>size</code> is negative, an {@link IllegalArgumentException} is thrown.
+   * If any of the <code>key</code> or <code>value</code> is {@code null}, an {@link IllegalArgumentException} is
+   * thrown.
    * <p>
    *
    * @param key the property key to look for in the actual {@link PropertyContainer}
@@ -113,13 +131,68 @@ public class PropertyContainerAssert<A extends PropertyContainerAssert<A, T>, T
    * @throws AssertionError if the actual {@link PropertyContainer} does not have a property with given key and value.
    */
   public A hasProperty(String key, Object value) {
+    return hasProperty(key, value, 0);
+  }
+
+  /**
+   * Verifies that the actual {@link PropertyContainer} has the given property key with a value close to the given
+   * one<br/>
+   * <p>
+   * Numbers, and the elements of numeric arrays, match when they are of the same type and at most
+   * <code>offset</code> apart. Other values must be equal, arrays being compared element by element.
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Node node = graph.createNode();
+   * node.setProperty(&quot;embedding&quot;, new double[] {0.12, 0.87, 0.33});
+   *
+   * assertThat(node).hasProperty(&quot;embedding&quot;, new double[] {0.1, 0.9, 0.3}, within(0.05));
+   * </pre>
+   *
+   * If any of the <code>key</code>, <code>value</code> or <code>offset</code> is {@code null}, an
+   * {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param key the property key to look for in the actual {@link PropertyContainer}
+   * @param value the property value to look for in the actual {@link PropertyContainer}
+   * @param offset the largest difference between two numbers still considered the same
+   * @return this {@link PropertyContainerAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>key</code> is {@code null}.
+   * @throws IllegalArgumentException if <code>value</code> is {@code null}.
+   * @throws IllegalArgumentException if <code>offset</code> is {@code null}.
+   * @throws AssertionError if the actual {@link PropertyContainer} does not have a property with given key and a value
+   *           close to the given one.
+   */
+  public A hasProperty(String key, Object value, Offset<Double> offset) {
+    if (offset == null) {
+      throw new IllegalArgumentException("The offset to compare values within should not be null");
+    }
+    return hasProperty(key, value, offset.value);
+  }
+
+  private A hasProperty(String key, Object value, double tolerance) {
     hasPropertyKey(key);
 
     checkPropertyValueIsNotNull(value);
-    if (!value.equals(actual.getProperty(key, null))) {
+    Object property = actual.getProperty(key, null);
+    int index = PropertyValues.mismatch(value, property, tolerance);
+    if (index == PropertyValues.NO_MISMATCH) {
+      return myself;
+    }
+    if (!PropertyValues.sameArrayType(value, property)) {
       throw Failures.instance().failure(info, shouldHaveProperty(actual, key, value));
     }
-    return myself;
+    int expectedLength = Array.getLength(value);
+    int actualLength = Array.getLength(property);
+    if (index == Math.min(expectedLength, actualLength)) {
+      throw Failures.instance().failure(info, shouldHavePropertyOfLength(actual, key, value, expectedLength,
+                                                                         actualLength));
+    }
+    throw Failures.instance().failure(info, shouldHaveProperty(actual, key, value, index, Array.get(value, index),
+                                                               Array.get(property, index)));
   }
 
   /**
@@ -199,10 +272,219 @@ public class PropertyContainerAssert<A extends PropertyContainerAssert<A, T>, T
 
     checkPropertyKeyIsNotNull(key);
     checkPropertyValueIsNotNull(value);
-    if (actual.hasProperty(key) && value.equals(actual.getProperty(key, null))) {
+    if (actual.hasProperty(key)
+        && PropertyValues.mismatch(value, actual.getProperty(key, null), 0) == PropertyValues.NO_MISMATCH) {
       throw Failures.instance().failure(info, shouldNotHaveProperty(actual, key, value));
     }
     return myself;
   }
 
+  /**
+   * Verifies that the actual {@link PropertyContainer} has all the given properties, reading them at once<br/>
+   * <p>
+   * Values are compared as {@link #hasProperty(String, Object)} does. Failures report every missing key and every
+   * different value together.
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Node node = graph.createNode();
+   * node.setProperty(&quot;flavour&quot;, &quot;glazed&quot;);
+   * node.setProperty(&quot;weight&quot;, 80);
+   * node.setProperty(&quot;price&quot;, 2.5);
+   *
+   * Map&lt;String, Object&gt; properties = new HashMap&lt;&gt;();
+   * properties.put(&quot;flavour&quot;, &quot;glazed&quot;);
+   * properties.put(&quot;weight&quot;, 80);
+   *
+   * assertThat(node).hasProperties(properties);
+   * </pre>
+   *
+   * If the given <code>properties</code>, or any of their keys or values, is {@code null}, an
+   * {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param properties the properties to look for in the actual {@link PropertyContainer}
+   * @return this {@link PropertyContainerAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>properties</code> is {@code null}.
+   * @throws IllegalArgumentException if any key or value of <code>properties</code> is {@code null}.
+   * @throws AssertionError if the actual {@link PropertyContainer} does not have all the given properties.
+   */
+  public A hasProperties(Map<String, Object> properties) {
+    Objects.instance().assertNotNull(info, actual);
+
+    String[] keys = checkPropertiesAreNotNull(properties);
+    Map<String, Object> actualProperties = actual.getProperties(keys);
+    List<String> missingKeys = new ArrayList<>();
+    Map<String, Object> differentProperties = new LinkedHashMap<>();
+    compareProperties(properties, actualProperties, missingKeys, differentProperties);
+    if (!missingKeys.isEmpty() || !differentProperties.isEmpty()) {
+      throw Failures.instance().failure(info, shouldHaveProperties(actual, properties, missingKeys,
+                                                                   differentProperties));
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual {@link PropertyContainer} has all the given properties and no other, reading them at
+   * once<br/>
+   * <p>
+   * Values are compared as {@link #hasProperty(String, Object)} does. Failures report every missing key, every
+   * different value and every unexpected property together.
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Node node = graph.createNode();
+   * node.setProperty(&quot;flavour&quot;, &quot;glazed&quot;);
+   * node.setProperty(&quot;weight&quot;, 80);
+   *
+   * Map&lt;String, Object&gt; properties = new HashMap&lt;&gt;();
+   * properties.put(&quot;flavour&quot;, &quot;glazed&quot;);
+   * properties.put(&quot;weight&quot;, 80);
+   *
+   * assertThat(node).hasOnlyProperties(properties);
+   * </pre>
+   *
+   * If the given <code>properties</code>, or any of their keys or values, is {@code null}, an
+   * {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param properties the only properties to look for in the actual {@link PropertyContainer}
+   * @return this {@link PropertyContainerAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>properties</code> is {@code null}.
+   * @throws IllegalArgumentException if any key or value of <code>properties</code> is {@code null}.
+   * @throws AssertionError if the actual {@link PropertyContainer} does not have exactly the given properties.
+   */
+  public A hasOnlyProperties(Map<String, Object> properties) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkPropertiesAreNotNull(properties);
+    Map<String, Object> actualProperties = actual.getAllProperties();
+    List<String> missingKeys = new ArrayList<>();
+    Map<String, Object> differentProperties = new LinkedHashMap<>();
+    compareProperties(properties, actualProperties, missingKeys, differentProperties);
+    Map<String, Object> unexpectedProperties = new LinkedHashMap<>();
+    for (Map.Entry<String, Object> actualProperty : actualProperties.entrySet()) {
+      if (!properties.containsKey(actualProperty.getKey())) {
+        unexpectedProperties.put(actualProperty.getKey(), actualProperty.getValue());
+      }
+    }
+    if (!missingKeys.isEmpty() || !differentProperties.isEmpty() || !unexpectedProperties.isEmpty()) {
+      throw Failures.instance().failure(info, shouldHaveOnlyProperties(actual, properties, missingKeys,
+                                                                       differentProperties, unexpectedProperties));
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the values of the given property keys in the actual {@link PropertyContainer} satisfy their
+   * requirements, reading them at once<br/>
+   * <p>
+   * Every requirement runs, failures report every missing key and the errors of every requirement not satisfied
+   * together.
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Node node = graph.createNode();
+   * node.setProperty(&quot;flavour&quot;, &quot;glazed&quot;);
+   * node.setProperty(&quot;weight&quot;, 80);
+   *
+   * Map&lt;String, Consumer&lt;Object&gt;&gt; requirements = new HashMap&lt;&gt;();
+   * requirements.put(&quot;flavour&quot;, flavour -&gt; assertThat((String) flavour).startsWith(&quot;gla&quot;));
+   * requirements.put(&quot;weight&quot;, weight -&gt; assertThat((int) weight).isBetween(50, 100));
+   *
+   * assertThat(node).hasPropertiesSatisfying(requirements);
+   * </pre>
+   *
+   * If the given <code>requirements</code>, or any of their keys or values, is {@code null}, an
+   * {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param requirements the requirements the values of the actual {@link PropertyContainer} must satisfy, by key
+   * @return this {@link PropertyContainerAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>requirements</code> is {@code null}.
+   * @throws IllegalArgumentException if any key or value of <code>requirements</code> is {@code null}.
+   * @throws AssertionError if the actual {@link PropertyContainer} misses a key of the given requirements or has a
+   *           value not satisfying its requirement.
+   */
+  public A hasPropertiesSatisfying(Map<String, Consumer<Object>> requirements) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (requirements == null) {
+      throw new IllegalArgumentException("The requirements to check should not be null");
+    }
+    String[] keys = new String[requirements.size()];
+    int i = 0;
+    for (Map.Entry<String, Consumer<Object>> requirement : requirements.entrySet()) {
+      checkPropertyKeyIsNotNull(requirement.getKey());
+      if (requirement.getValue() == null) {
+        throw new IllegalArgumentException("The requirement to check should not be null");
+      }
+      keys[i++] = requirement.getKey();
+    }
+    Map<String, Object> actualProperties = actual.getProperties(keys);
+    List<String> missingKeys = new ArrayList<>();
+    Map<String, String> errors = new LinkedHashMap<>();
+    for (Map.Entry<String, Consumer<Object>> requirement : requirements.entrySet()) {
+      Object value = actualProperties.get(requirement.getKey());
+      if (value == null) {
+        missingKeys.add(requirement.getKey());
+        continue;
+      }
+      try {
+        requirement.getValue().accept(value);
+      } catch (AssertionError error) {
+        errors.put(requirement.getKey(), error.getMessage());
+      }
+    }
+    if (!missingKeys.isEmpty() || !errors.isEmpty()) {
+      throw Failures.instance().failure(info, shouldHavePropertiesSatisfying(actual, missingKeys, errors));
+    }
+    return myself;
+  }
+
+  private static String[] checkPropertiesAreNotNull(Map<String, Object> properties) {
+    if (properties == null) {
+      throw new IllegalArgumentException("The properties to look for should not be null");
+    }
+    String[] keys = new String[properties.size()];
+    int i = 0;
+    for (Map.Entry<String, Object> property : properties.entrySet()) {
+      checkPropertyKeyIsNotNull(property.getKey());
+      checkPropertyValueIsNotNull(property.getValue());
+      keys[i++] = property.getKey();
+    }
+    return keys;
+  }
+
+  private static void compareProperties(Map<String, Object> expectedProperties, Map<String, Object> actualProperties,
+                                        List<String> missingKeys, Map<String, Object> differentProperties) {
+    for (Map.Entry<String, Object> expectedProperty : expectedProperties.entrySet()) {
+      Object value = actualProperties.get(expectedProperty.getKey());
+      if (value == null) {
+        missingKeys.add(expectedProperty.getKey());
+      } else if (PropertyValues.mismatch(expectedProperty.getValue(), value, 0) != PropertyValues.NO_MISMATCH) {
+        differentProperties.put(expectedProperty.getKey(), value);
+      }
+    }
+  }
+
+  /**
+   * Carries the description and overriding error message of this assertion over to the given assertion on a snapshot,
+   * which represents entities with their labels, type and properties as they are already in memory.
+   */
+  <S extends PropertyContainerAssert<S, ?>> S onSnapshot(S other) {
+    other.info.description(info.description());
+    other.info.overridingErrorMessage(info.overridingErrorMessage());
+    other.info.useRepresentation(new Neo4jRepresentation());
+    return other;
+  }
 }
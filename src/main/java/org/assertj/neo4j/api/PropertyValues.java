@@ -0,0 +1,271 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import java.lang.reflect.Array;
+import java.util.Objects;
+
+/**
+ * Compares property values as Neo4j stores them: scalars by equality, arrays element by element without boxing their
+ * elements, numbers optionally within a tolerance.
+ */
+final class PropertyValues {
+
+  /**
+   * Returned by {@link #mismatch(Object, Object, double)} when both values are the same.
+   */
+  static final int NO_MISMATCH = -1;
+
+  private PropertyValues() {
+  }
+
+  /**
+   * Finds where the actual property value differs from the expected one.
+   * <p>
+   * Numbers and numeric array elements of the same type also match when they are at most <code>tolerance</code> apart.
+   * A tolerance of zero requires them to be equal.
+   *
+   * @param expected the expected property value, not {@code null}
+   * @param actual the actual property value, {@code null} when the property is missing
+   * @param tolerance the largest difference between two numbers still considered the same
+   * @return {@link #NO_MISMATCH} if both values are the same, the index of the first differing element if they are
+   *         arrays of the same type, the length of the shorter one if one array starts with the other, <code>0</code>
+   *         otherwise
+   */
+  static int mismatch(Object expected, Object actual, double tolerance) {
+    if (!sameArrayType(expected, actual)) {
+      return sameScalar(expected, actual, tolerance) ? NO_MISMATCH : 0;
+    }
+    if (expected instanceof long[]) {
+      return mismatch((long[]) expected, (long[]) actual, tolerance);
+    }
+    if (expected instanceof int[]) {
+      return mismatch((int[]) expected, (int[]) actual, tolerance);
+    }
+    if (expected instanceof short[]) {
+      return mismatch((short[]) expected, (short[]) actual, tolerance);
+    }
+    if (expected instanceof byte[]) {
+      return mismatch((byte[]) expected, (byte[]) actual, tolerance);
+    }
+    if (expected instanceof double[]) {
+      return mismatch((double[]) expected, (double[]) actual, tolerance);
+    }
+    if (expected instanceof float[]) {
+      return mismatch((float[]) expected, (float[]) actual, tolerance);
+    }
+    if (expected instanceof boolean[]) {
+      return mismatch((boolean[]) expected, (boolean[]) actual);
+    }
+    if (expected instanceof char[]) {
+      return mismatch((char[]) expected, (char[]) actual);
+    }
+    return mismatch((Object[]) expected, (Object[]) actual);
+  }
+
+  /**
+   * Tells whether both values are arrays of the same type, whose elements {@link #mismatch(Object, Object, double)}
+   * compares one by one.
+   */
+  static boolean sameArrayType(Object expected, Object actual) {
+    return actual != null && expected.getClass().isArray() && expected.getClass() == actual.getClass();
+  }
+
+  /**
+   * Tells whether both property values are the same for a uniqueness constraint: numbers are compared by value
+   * whatever their type, <code>1</code>, <code>1L</code> and <code>1.0</code> being the same, and arrays element by
+   * element with the same rule.
+   */
+  static boolean sameValue(Object first, Object second) {
+    if (first instanceof Number && second instanceof Number) {
+      return sameNumber((Number) first, (Number) second);
+    }
+    if (first != null && second != null && first.getClass().isArray() && second.getClass().isArray()) {
+      int length = Array.getLength(first);
+      if (length != Array.getLength(second)) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (!sameValue(Array.get(first, i), Array.get(second, i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return Objects.equals(first, second);
+  }
+
+  /**
+   * Returns a 64 bits hash of the given property value, the same for values {@link #sameValue(Object, Object)} finds
+   * the same.
+   */
+  static long fingerprint(Object value) {
+    long hash;
+    if (value instanceof String) {
+      String string = (String) value;
+      hash = 0xCBF29CE484222325L;
+      for (int i = 0; i < string.length(); i++) {
+        hash = (hash ^ string.charAt(i)) * 0x100000001B3L;
+      }
+    } else if (value instanceof Double || value instanceof Float) {
+      double number = ((Number) value).doubleValue();
+      hash = isLong(number) ? (long) number : Double.doubleToLongBits(number);
+    } else if (value instanceof Number) {
+      hash = ((Number) value).longValue();
+    } else if (value.getClass().isArray()) {
+      hash = Array.getLength(value);
+      for (int i = 0; i < Array.getLength(value); i++) {
+        hash = mix(hash + fingerprint(Array.get(value, i)));
+      }
+    } else {
+      hash = value.hashCode();
+    }
+    return mix(hash);
+  }
+
+  /**
+   * Spreads the bits of the given hash, as the finalizer of SplitMix64 does.
+   */
+  static long mix(long hash) {
+    hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+    hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+    return hash ^ (hash >>> 31);
+  }
+
+  private static boolean sameNumber(Number first, Number second) {
+    boolean firstIsFloating = first instanceof Double || first instanceof Float;
+    boolean secondIsFloating = second instanceof Double || second instanceof Float;
+    if (!firstIsFloating && !secondIsFloating) {
+      return first.longValue() == second.longValue();
+    }
+    if (firstIsFloating && secondIsFloating) {
+      return first.doubleValue() == second.doubleValue();
+    }
+    double floating = firstIsFloating ? first.doubleValue() : second.doubleValue();
+    long integral = firstIsFloating ? second.longValue() : first.longValue();
+    return isLong(floating) && (long) floating == integral;
+  }
+
+  /**
+   * Tells whether the given number has no fractional part and fits in a <code>long</code>.
+   */
+  private static boolean isLong(double number) {
+    return number >= -0x1p63 && number < 0x1p63 && (double) (long) number == number;
+  }
+
+  private static boolean sameScalar(Object expected, Object actual, double tolerance) {
+    if (expected.equals(actual)) {
+      return true;
+    }
+    if (tolerance > 0 && expected instanceof Number && actual != null && expected.getClass() == actual.getClass()) {
+      return Math.abs(((Number) expected).doubleValue() - ((Number) actual).doubleValue()) <= tolerance;
+    }
+    return false;
+  }
+
+  private static int mismatch(long[] expected, long[] actual, double tolerance) {
+    int length = Math.min(expected.length, actual.length);
+    for (int i = 0; i < length; i++) {
+      if (expected[i] != actual[i] && !(tolerance > 0 && Math.abs((double) expected[i] - actual[i]) <= tolerance)) {
+        return i;
+      }
+    }
+    return lengthMismatch(expected.length, actual.length);
+  }
+
+  private static int mismatch(int[] expected, int[] actual, double tolerance) {
+    int length = Math.min(expected.length, actual.length);
+    for (int i = 0; i < length; i++) {
+      if (expected[i] != actual[i] && !(tolerance > 0 && Math.abs((long) expected[i] - actual[i]) <= tolerance)) {
+        return i;
+      }
+    }
+    return lengthMismatch(expected.length, actual.length);
+  }
+
+  private static int mismatch(short[] expected, short[] actual, double tolerance) {
+    int length = Math.min(expected.length, actual.length);
+    for (int i = 0; i < length; i++) {
+      if (expected[i] != actual[i] && !(tolerance > 0 && Math.abs(expected[i] - actual[i]) <= tolerance)) {
+        return i;
+      }
+    }
+    return lengthMismatch(expected.length, actual.length);
+  }
+
+  private static int mismatch(byte[] expected, byte[] actual, double tolerance) {
+    int length = Math.min(expected.length, actual.length);
+    for (int i = 0; i < length; i++) {
+      if (expected[i] != actual[i] && !(tolerance > 0 && Math.abs(expected[i] - actual[i]) <= tolerance)) {
+        return i;
+      }
+    }
+    return lengthMismatch(expected.length, actual.length);
+  }
+
+  private static int mismatch(double[] expected, double[] actual, double tolerance) {
+    int length = Math.min(expected.length, actual.length);
+    for (int i = 0; i < length; i++) {
+      if (Double.doubleToLongBits(expected[i]) != Double.doubleToLongBits(actual[i])
+          && !(tolerance > 0 && Math.abs(expected[i] - actual[i]) <= tolerance)) {
+        return i;
+      }
+    }
+    return lengthMismatch(expected.length, actual.length);
+  }
+
+  private static int mismatch(float[] expected, float[] actual, double tolerance) {
+    int length = Math.min(expected.length, actual.length);
+    for (int i = 0; i < length; i++) {
+      if (Float.floatToIntBits(expected[i]) != Float.floatToIntBits(actual[i])
+          && !(tolerance > 0 && Math.abs((double) expected[i] - actual[i]) <= tolerance)) {
+        return i;
+      }
+    }
+    return lengthMismatch(expected.length, actual.length);
+  }
+
+  private static int mismatch(boolean[] expected, boolean[] actual) {
+    int length = Math.min(expected.length, actual.length);
+    for (int i = 0; i < length; i++) {
+      if (expected[i] != actual[i]) {
+        return i;
+      }
+    }
+    return lengthMismatch(expected.length, actual.length);
+  }
+
+  private static int mismatch(char[] expected, char[] actual) {
+    int length = Math.min(expected.length, actual.length);
+    for (int i = 0; i < length; i++) {
+      if (expected[i] != actual[i]) {
+        return i;
+      }
+    }
+    return lengthMismatch(expected.length, actual.length);
+  }
+
+  private static int mismatch(Object[] expected, Object[] actual) {
+    int length = Math.min(expected.length, actual.length);
+    for (int i = 0; i < length; i++) {
+      if (!Objects.equals(expected[i], actual[i])) {
+        return i;
+      }
+    }
+    return lengthMismatch(expected.length, actual.length);
+  }
+
+  private static int lengthMismatch(int expectedLength, int actualLength) {
+    return expectedLength == actualLength ? NO_MISMATCH : Math.min(expectedLength, actualLength);
+  }
+}
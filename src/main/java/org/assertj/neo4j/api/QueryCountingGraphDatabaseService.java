@@ -0,0 +1,215 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.ResourceIterable;
+import org.neo4j.graphdb.ResourceIterator;
+import org.neo4j.graphdb.Result;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.event.KernelEventHandler;
+import org.neo4j.graphdb.event.TransactionEventHandler;
+import org.neo4j.graphdb.index.IndexManager;
+import org.neo4j.graphdb.schema.Schema;
+import org.neo4j.graphdb.traversal.BidirectionalTraversalDescription;
+import org.neo4j.graphdb.traversal.TraversalDescription;
+
+import java.util.Map;
+
+/**
+ * {@link GraphDatabaseService} recording the Cypher queries executed by the threads running
+ * {@link GraphDatabaseServiceAssert#whileRunning(Runnable)}, delegating everything else as is.
+ */
+class QueryCountingGraphDatabaseService implements GraphDatabaseService {
+
+  private final GraphDatabaseService delegate;
+  private final ThreadLocal<ExecutedQueries> recording = new ThreadLocal<>();
+
+  QueryCountingGraphDatabaseService(GraphDatabaseService delegate) {
+    this.delegate = delegate;
+  }
+
+  ExecutedQueries record(Runnable code) {
+    ExecutedQueries enclosingQueries = recording.get();
+    ExecutedQueries queries = new ExecutedQueries();
+    recording.set(queries);
+    try {
+      code.run();
+    } finally {
+      if (enclosingQueries == null) {
+        recording.remove();
+      } else {
+        recording.set(enclosingQueries);
+        enclosingQueries.addAll(queries);
+      }
+    }
+    return queries;
+  }
+
+  @Override
+  public Result execute(String query) {
+    ExecutedQueries queries = recording.get();
+    if (queries == null) {
+      return delegate.execute(query);
+    }
+    long start = System.nanoTime();
+    try {
+      return delegate.execute(query);
+    } finally {
+      queries.add(query, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public Result execute(String query, Map<String, Object> parameters) {
+    ExecutedQueries queries = recording.get();
+    if (queries == null) {
+      return delegate.execute(query, parameters);
+    }
+    long start = System.nanoTime();
+    try {
+      return delegate.execute(query, parameters);
+    } finally {
+      queries.add(query, System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public Node createNode() {
+    return delegate.createNode();
+  }
+
+  @Override
+  public Node createNode(Label... labels) {
+    return delegate.createNode(labels);
+  }
+
+  @Override
+  public Node getNodeById(long id) {
+    return delegate.getNodeById(id);
+  }
+
+  @Override
+  public Relationship getRelationshipById(long id) {
+    return delegate.getRelationshipById(id);
+  }
+
+  @Override
+  public ResourceIterable<Node> getAllNodes() {
+    return delegate.getAllNodes();
+  }
+
+  @Override
+  public ResourceIterable<Relationship> getAllRelationships() {
+    return delegate.getAllRelationships();
+  }
+
+  @Override
+  public ResourceIterator<Node> findNodes(Label label, String key, Object value) {
+    return delegate.findNodes(label, key, value);
+  }
+
+  @Override
+  public Node findNode(Label label, String key, Object value) {
+    return delegate.findNode(label, key, value);
+  }
+
+  @Override
+  public ResourceIterator<Node> findNodes(Label label) {
+    return delegate.findNodes(label);
+  }
+
+  @Override
+  public ResourceIterable<Label> getAllLabelsInUse() {
+    return delegate.getAllLabelsInUse();
+  }
+
+  @Override
+  public ResourceIterable<RelationshipType> getAllRelationshipTypesInUse() {
+    return delegate.getAllRelationshipTypesInUse();
+  }
+
+  @Override
+  public ResourceIterable<Label> getAllLabels() {
+    return delegate.getAllLabels();
+  }
+
+  @Override
+  public ResourceIterable<RelationshipType> getAllRelationshipTypes() {
+    return delegate.getAllRelationshipTypes();
+  }
+
+  @Override
+  public ResourceIterable<String> getAllPropertyKeys() {
+    return delegate.getAllPropertyKeys();
+  }
+
+  @Override
+  public boolean isAvailable(long timeout) {
+    return delegate.isAvailable(timeout);
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  @Override
+  public Transaction beginTx() {
+    return delegate.beginTx();
+  }
+
+  @Override
+  public <T> TransactionEventHandler<T> registerTransactionEventHandler(TransactionEventHandler<T> handler) {
+    return delegate.registerTransactionEventHandler(handler);
+  }
+
+  @Override
+  public <T> TransactionEventHandler<T> unregisterTransactionEventHandler(TransactionEventHandler<T> handler) {
+    return delegate.unregisterTransactionEventHandler(handler);
+  }
+
+  @Override
+  public KernelEventHandler registerKernelEventHandler(KernelEventHandler handler) {
+    return delegate.registerKernelEventHandler(handler);
+  }
+
+  @Override
+  public KernelEventHandler unregisterKernelEventHandler(KernelEventHandler handler) {
+    return delegate.unregisterKernelEventHandler(handler);
+  }
+
+  @Override
+  public Schema schema() {
+    return delegate.schema();
+  }
+
+  @Override
+  public IndexManager index() {
+    return delegate.index();
+  }
+
+  @Override
+  public TraversalDescription traversalDescription() {
+    return delegate.traversalDescription();
+  }
+
+  @Override
+  public BidirectionalTraversalDescription bidirectionalTraversalDescription() {
+    return delegate.bidirectionalTraversalDescription();
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Result.ResultVisitor;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.neo4j.error.ShouldHaveLatencyBelow.shouldHaveLatencyBelow;
+
+/**
+ * Latency assertions for a Cypher query, executed repeatedly against a {@link GraphDatabaseService}.
+ * <p>
+ * The query is executed the first time a latency assertion is checked: first {@link #warmup(int)} times without
+ * measuring anything, then {@link #iterations(int)} times, each result being fully consumed before the latency of the
+ * execution is recorded. Latencies are kept in a histogram allocated once, measuring does not allocate on its own.
+ * The recorded latencies are shared by the following assertions of the chain.
+ */
+public class QueryLatencyAssert extends AbstractAssert<QueryLatencyAssert, String> {
+
+  private static final int DEFAULT_WARMUP = 10;
+  private static final int DEFAULT_ITERATIONS = 100;
+  private static final ResultVisitor<RuntimeException> CONSUME_ALL = row -> true;
+
+  private final GraphDatabaseService graph;
+  private final Map<String, Object> parameters;
+  private int warmup = DEFAULT_WARMUP;
+  private int iterations = DEFAULT_ITERATIONS;
+  private LatencyHistogram histogram;
+
+  protected QueryLatencyAssert(GraphDatabaseService graph, String query, Map<String, Object> parameters) {
+    super(query, QueryLatencyAssert.class);
+    if (graph == null) {
+      throw new IllegalArgumentException("The graph database to execute the query against should not be null");
+    }
+    this.graph = graph;
+    this.parameters = parameters == null ? Collections.emptyMap() : parameters;
+  }
+
+  private static void checkMaxLatencyIsNotNull(Duration maxLatency) {
+    if (maxLatency == null) {
+      throw new IllegalArgumentException("The latency to compare against should not be null");
+    }
+  }
+
+  public String getActual() {
+    return actual;
+  }
+
+  /**
+   * Sets the number of times the query is executed before measuring its latency, defaults to 10.
+   * <p>
+   * If the <code>warmup</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   *
+   * @param warmup the number of unmeasured executions of the query
+   * @return this {@link QueryLatencyAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>warmup</code> is strictly negative.
+   */
+  public QueryLatencyAssert warmup(int warmup) {
+    if (warmup < 0) {
+      throw new IllegalArgumentException("The number of warmup executions should be positive.");
+    }
+    this.warmup = warmup;
+    this.histogram = null;
+    return this;
+  }
+
+  /**
+   * Sets the number of times the latency of the query is measured, defaults to 100.
+   * <p>
+   * If the <code>iterations</code> is not strictly positive, an {@link IllegalArgumentException} is thrown.
+   *
+   * @param iterations the number of measured executions of the query
+   * @return this {@link QueryLatencyAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>iterations</code> is not strictly positive.
+   */
+  public QueryLatencyAssert iterations(int iterations) {
+    if (iterations < 1) {
+      throw new IllegalArgumentException("The number of measured executions should be strictly positive.");
+    }
+    this.iterations = iterations;
+    this.histogram = null;
+    return this;
+  }
+
+  /**
+   * Verifies that the median latency of the actual query is below the given duration<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * assertThatQuery(graph, &quot;MATCH (n:DOUGHNUT) RETURN n&quot;).hasP50LatencyBelow(Duration.ofMillis(1));
+   * </pre>
+   *
+   * If the <code>maxLatency</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param maxLatency the latency the median latency should be below
+   * @return this {@link QueryLatencyAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>maxLatency</code> is {@code null}.
+   * @throws AssertionError if the median latency of the actual query is not below the given duration
+   */
+  public QueryLatencyAssert hasP50LatencyBelow(Duration maxLatency) {
+    return hasPercentileLatencyBelow(50, maxLatency);
+  }
+
+  /**
+   * Verifies that the 99th percentile latency of the actual query is below the given duration<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * assertThatQuery(graph, &quot;MATCH (n:DOUGHNUT {flavour: {flavour}}) RETURN n&quot;,
+   *                 Collections.singletonMap(&quot;flavour&quot;, &quot;chocolate&quot;))
+   *   .warmup(50)
+   *   .iterations(500)
+   *   .hasP99LatencyBelow(Duration.ofMillis(5));
+   * </pre>
+   *
+   * If the <code>maxLatency</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param maxLatency the latency the 99th percentile latency should be below
+   * @return this {@link QueryLatencyAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>maxLatency</code> is {@code null}.
+   * @throws AssertionError if the 99th percentile latency of the actual query is not below the given duration
+   */
+  public QueryLatencyAssert hasP99LatencyBelow(Duration maxLatency) {
+    return hasPercentileLatencyBelow(99, maxLatency);
+  }
+
+  /**
+   * Verifies that the given percentile of the latencies of the actual query is below the given duration<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * assertThatQuery(graph, &quot;MATCH (n:DOUGHNUT) RETURN n&quot;).hasPercentileLatencyBelow(99.9, Duration.ofMillis(10));
+   * </pre>
+   *
+   * Latencies are measured within 1/64 of their actual value and rounded up.<br/>
+   * If the <code>percentile</code> is not within ]0, 100], an {@link IllegalArgumentException} is thrown.<br/>
+   * If the <code>maxLatency</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param percentile the percentile of the latencies to compare
+   * @param maxLatency the latency the given percentile should be below
+   * @return this {@link QueryLatencyAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>percentile</code> is not within ]0, 100].
+   * @throws IllegalArgumentException if <code>maxLatency</code> is {@code null}.
+   * @throws AssertionError if the given percentile of the latencies of the actual query is not below the given
+   *           duration
+   */
+  public QueryLatencyAssert hasPercentileLatencyBelow(double percentile, Duration maxLatency) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (!(percentile > 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("The percentile to compare should be within ]0, 100].");
+    }
+    checkMaxLatencyIsNotNull(maxLatency);
+    LatencyHistogram latencies = latencies();
+    if (latencies.percentile(percentile).compareTo(maxLatency) >= 0) {
+      throw Failures.instance().failure(info, shouldHaveLatencyBelow(actual, percentile, maxLatency,
+                                                                     latencies.totalCount(),
+                                                                     latencies.percentile(50),
+                                                                     latencies.percentile(90),
+                                                                     latencies.percentile(99),
+                                                                     latencies.max()));
+    }
+    return this;
+  }
+
+  private LatencyHistogram latencies() {
+    if (histogram == null) {
+      for (int i = 0; i < warmup; i++) {
+        execute();
+      }
+      LatencyHistogram latencies = new LatencyHistogram();
+      for (int i = 0; i < iterations; i++) {
+        long start = System.nanoTime();
+        execute();
+        latencies.record(System.nanoTime() - start);
+      }
+      histogram = latencies;
+    }
+    return histogram;
+  }
+
+  private void execute() {
+    graph.execute(actual, parameters).accept(CONSUME_ALL);
+  }
+}
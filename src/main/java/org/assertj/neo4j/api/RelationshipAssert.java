@@ -368,4 +368,35 @@ public class RelationshipAssert extends PropertyContainerAssert<RelationshipAsse
     }
     return this;
   }
+
+  /**
+   * Reads the type, nodes and properties of the actual {@link org.neo4j.graphdb.Relationship} once, in a single
+   * transaction, and returns assertions on that immutable snapshot. The assertions chained afterwards never go back to
+   * the store nor need a transaction.
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Node doughnut = graph.createNode();
+   * Node bakery = graph.createNode();
+   * Relationship bakedIn = doughnut.createRelationshipTo(bakery, RelationshipType.withName(&quot;BAKED_IN&quot;));
+   * bakedIn.setProperty(&quot;since&quot;, 1987);
+   *
+   * assertThat(bakedIn).snapshot()
+   *                    .hasType(&quot;BAKED_IN&quot;)
+   *                    .hasProperty(&quot;since&quot;, 1987);
+   * </pre>
+   *
+   * @return a new {@link RelationshipAssert} on the snapshot of the actual {@link org.neo4j.graphdb.Relationship}
+   *
+   * @throws AssertionError if the actual {@link org.neo4j.graphdb.Relationship} is {@code null}.
+   */
+  public RelationshipAssert snapshot() {
+    Objects.instance().assertNotNull(info, actual);
+
+    Relationship snapshot = AssertionSession.inTransaction(actual.getGraphDatabase(),
+                                                           () -> RelationshipSnapshot.of(actual));
+    return onSnapshot(new RelationshipAssert(snapshot));
+  }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.NotFoundException;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+
+/**
+ * Type, nodes and properties of a {@link Relationship}, read once. Start and end nodes are kept as they were returned
+ * by the relationship, their own labels and properties are not part of the snapshot.
+ */
+final class RelationshipSnapshot extends EntitySnapshot implements Relationship {
+
+  private final RelationshipType type;
+  private final Node startNode;
+  private final Node endNode;
+
+  private RelationshipSnapshot(Relationship relationship) {
+    super(relationship.getId(), relationship.getAllProperties());
+    this.type = relationship.getType();
+    this.startNode = relationship.getStartNode();
+    this.endNode = relationship.getEndNode();
+  }
+
+  /**
+   * Reads the given relationship, in the current transaction.
+   */
+  static RelationshipSnapshot of(Relationship relationship) {
+    return relationship instanceof RelationshipSnapshot ? (RelationshipSnapshot) relationship
+        : new RelationshipSnapshot(relationship);
+  }
+
+  @Override
+  public Node getStartNode() {
+    return startNode;
+  }
+
+  @Override
+  public Node getEndNode() {
+    return endNode;
+  }
+
+  @Override
+  public Node getOtherNode(Node node) {
+    if (startNode.equals(node)) {
+      return endNode;
+    }
+    if (endNode.equals(node)) {
+      return startNode;
+    }
+    throw new NotFoundException("Node[" + node.getId() + "] not connected to this relationship[" + getId() + "]");
+  }
+
+  @Override
+  public Node[] getNodes() {
+    return new Node[] { startNode, endNode };
+  }
+
+  @Override
+  public RelationshipType getType() {
+    return type;
+  }
+
+  @Override
+  public boolean isType(RelationshipType type) {
+    return this.type.name().equals(type.name());
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof Relationship && ((Relationship) other).getId() == getId();
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(getId());
+  }
+
+  @Override
+  public String toString() {
+    return "Relationship[" + getId() + "]";
+  }
+}
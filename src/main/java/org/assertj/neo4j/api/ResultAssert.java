@@ -13,24 +13,89 @@
 package org.assertj.neo4j.api;
 
 import org.assertj.core.api.IterableAssert;
+import org.assertj.core.internal.Objects;
 import org.neo4j.graphdb.Result;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 
+/**
+ * Assertions for Neo4J {@link Result}
+ * <p>
+ * {@link #contains(Object[])}, {@link #containsOnly(Object[])} and {@link #containsExactlyInAnyOrder(Object[])} compare
+ * rows through hashing and only report the missing and unexpected rows when they fail.
+ */
 public class ResultAssert extends IterableAssert<Map<String, Object>> {
 
+  private final Result result;
+  private final ResultRows rows;
+
   public ResultAssert(Result result) {
-    super(convertToIterable(result));
+    this(result, result == null ? null : new ResultRows(result));
+  }
+
+  private ResultAssert(Result result, ResultRows rows) {
+    super(rows);
+    this.result = result;
+    this.rows = rows;
+    this.iterables = new ResultIterables();
+    info.useRepresentation(new Neo4jRepresentation());
   }
 
-  private static Iterable<Map<String, Object>> convertToIterable(Iterator<Map<String, Object>> iterator) {
-    List<Map<String, Object>> result = new ArrayList<>();
-    while (iterator.hasNext()) {
-      result.add(iterator.next());
+  /**
+   * Switches to assertions that consume the actual {@link Result} row by row, without ever copying it in memory.<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Result result = graph.execute(&quot;MATCH (n:DOUGHNUT) RETURN n.glazed AS glazed&quot;);
+   *
+   * assertThat(result).streaming()
+   *   .allMatch(row -&gt; Boolean.TRUE.equals(row.get(&quot;glazed&quot;)))
+   *   .hasRowCount(1_000_000);
+   * </pre>
+   *
+   * This must be called before any other assertion of the chain, as those read the whole {@link Result} first.
+   * <p>
+   *
+   * @return a new {@link StreamingResultAssert} over the actual {@link Result}
+   *
+   * @throws IllegalStateException if the rows of the actual {@link Result} have already been read by a previous
+   *           assertion.
+   * @throws AssertionError if the actual {@link Result} is {@code null}.
+   */
+  public StreamingResultAssert streaming() {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (rows.isMaterialized()) {
+      throw new IllegalStateException("The result rows have already been read, streaming() should be called first");
     }
-    return result;
+    return new StreamingResultAssert(result);
+  }
+
+  /**
+   * Navigates to assertions on the {@link org.neo4j.graphdb.ExecutionPlanDescription} of the actual {@link Result}.<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Result result = graph.execute(&quot;PROFILE MATCH (n:DOUGHNUT {flavour: 'chocolate'}) RETURN n&quot;);
+   * result.resultAsString();
+   *
+   * assertThat(result).executionPlan().hasTotalDbHitsAtMost(10_000);
+   * </pre>
+   *
+   * Profiler statistics are only complete once all the rows of a PROFILE query have been read.
+   * <p>
+   *
+   * @return a new {@link ExecutionPlanAssert} for the execution plan of the actual {@link Result}
+   *
+   * @throws AssertionError if the actual {@link Result} is {@code null}.
+   */
+  public ExecutionPlanAssert executionPlan() {
+    Objects.instance().assertNotNull(info, actual);
+
+    return new ExecutionPlanAssert(result.getExecutionPlanDescription());
   }
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Iterables;
+import org.assertj.core.internal.StandardComparisonStrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.neo4j.error.ShouldContainRows.shouldContainExactlyInAnyOrderRows;
+import static org.assertj.neo4j.error.ShouldContainRows.shouldContainOnlyRows;
+import static org.assertj.neo4j.error.ShouldContainRows.shouldContainRows;
+
+/**
+ * {@link Iterables} comparing {@link org.neo4j.graphdb.Result} rows through hashing rather than pairwise scans, so that
+ * containment checks stay linear in the number of actual and expected rows.
+ * <p>
+ * Only the standard comparison strategy can rely on hashing, a custom element comparator replaces these
+ * {@link Iterables} altogether.
+ */
+class ResultIterables extends Iterables {
+
+  ResultIterables() {
+    super(StandardComparisonStrategy.instance());
+  }
+
+  @Override
+  public void assertContains(AssertionInfo info, Iterable<?> actual, Object[] values) {
+    if (actual == null || values == null || values.length == 0) {
+      super.assertContains(info, actual, values);
+      return;
+    }
+    Set<Object> missing = new LinkedHashSet<>(Arrays.asList(values));
+    for (Object row : actual) {
+      if (missing.remove(row) && missing.isEmpty()) {
+        return;
+      }
+    }
+    throw Failures.instance().failure(info, shouldContainRows(missing));
+  }
+
+  @Override
+  public void assertContainsOnly(AssertionInfo info, Iterable<?> actual, Object[] values) {
+    if (actual == null || values == null || values.length == 0) {
+      super.assertContainsOnly(info, actual, values);
+      return;
+    }
+    Set<Object> expected = new HashSet<>(Arrays.asList(values));
+    Set<Object> missing = new LinkedHashSet<>(expected);
+    List<Object> unexpected = new ArrayList<>();
+    for (Object row : actual) {
+      if (expected.contains(row)) {
+        missing.remove(row);
+      } else {
+        unexpected.add(row);
+      }
+    }
+    if (!missing.isEmpty() || !unexpected.isEmpty()) {
+      throw Failures.instance().failure(info, shouldContainOnlyRows(missing, unexpected));
+    }
+  }
+
+  @Override
+  public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
+    if (actual == null || values == null || values.length == 0) {
+      super.assertContainsExactlyInAnyOrder(info, actual, values);
+      return;
+    }
+    Map<Object, Integer> remaining = new LinkedHashMap<>();
+    for (Object value : values) {
+      remaining.merge(value, 1, Integer::sum);
+    }
+    List<Object> unexpected = new ArrayList<>();
+    for (Object row : actual) {
+      Integer count = remaining.get(row);
+      if (count == null) {
+        unexpected.add(row);
+      } else if (count == 1) {
+        remaining.remove(row);
+      } else {
+        remaining.put(row, count - 1);
+      }
+    }
+    if (!remaining.isEmpty() || !unexpected.isEmpty()) {
+      throw Failures.instance().failure(info, shouldContainExactlyInAnyOrderRows(missing(remaining), unexpected));
+    }
+  }
+
+  private static List<Object> missing(Map<Object, Integer> remaining) {
+    List<Object> missing = new ArrayList<>();
+    remaining.forEach((value, count) -> missing.addAll(Collections.nCopies(count, value)));
+    return missing;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Rows of a {@link org.neo4j.graphdb.Result}, only read the first time one of them is accessed and then kept in
+ * {@link ColumnarRows}.
+ */
+class ResultRows extends AbstractList<Map<String, Object>> {
+
+  private final Iterator<Map<String, Object>> result;
+  private ColumnarRows rows;
+
+  ResultRows(Iterator<Map<String, Object>> result) {
+    this.result = result;
+  }
+
+  boolean isMaterialized() {
+    return rows != null;
+  }
+
+  @Override
+  public Map<String, Object> get(int index) {
+    return rows().get(index);
+  }
+
+  @Override
+  public int size() {
+    return rows().size();
+  }
+
+  private ColumnarRows rows() {
+    if (rows == null) {
+      rows = new ColumnarRows();
+      while (result.hasNext()) {
+        rows.add(result.next());
+      }
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import org.neo4j.graphdb.schema.Schema;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.neo4j.error.ShouldMatchSchema.shouldMatchSchema;
+
+/**
+ * Assertions for Neo4J {@link Schema}
+ * <p>
+ * The indexes and constraints of the schema are read in the current transaction, which must be open.
+ */
+public class SchemaAssert extends AbstractAssert<SchemaAssert, Schema> {
+
+  protected SchemaAssert(Schema actual) {
+    super(actual, SchemaAssert.class);
+  }
+
+  public Schema getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that the actual {@link Schema} has exactly the given indexes and constraints<br/>
+   * <p>
+   * Indexes and constraints are read once, then compared as sets. Failures report all at once the expected ones the
+   * actual {@link Schema} does not have, the unexpected ones it has, and among them those of another kind than expected
+   * on the same labels, types and property keys, such as an index instead of a uniqueness constraint.
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   *
+   * try (Transaction ignored = graph.beginTx()) {
+   *   assertThat(graph.schema()).matches(ExpectedSchema.empty()
+   *                                                    .withIndex(&quot;DOUGHNUT&quot;, &quot;flavour&quot;)
+   *                                                    .withUniqueness(&quot;BAKERY&quot;, &quot;siret&quot;));
+   * }
+   * </pre>
+   *
+   * If the <code>expectedSchema</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param expectedSchema the indexes and constraints the actual {@link Schema} should have
+   * @return this {@link SchemaAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>expectedSchema</code> is {@code null}.
+   * @throws AssertionError if the actual {@link Schema} does not have exactly the given indexes and constraints
+   */
+  public SchemaAssert matches(ExpectedSchema expectedSchema) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (expectedSchema == null) {
+      throw new IllegalArgumentException("The expected schema should not be null");
+    }
+    Set<SchemaEntry> actualEntries = ExpectedSchema.of(actual).getEntries();
+    Set<SchemaEntry> expectedEntries = expectedSchema.getEntries();
+    Set<SchemaEntry> missingEntries = new LinkedHashSet<>(expectedEntries);
+    missingEntries.removeAll(actualEntries);
+    Set<SchemaEntry> unexpectedEntries = new LinkedHashSet<>(actualEntries);
+    unexpectedEntries.removeAll(expectedEntries);
+    if (missingEntries.isEmpty() && unexpectedEntries.isEmpty()) {
+      return this;
+    }
+    Map<Object, SchemaEntry> unexpectedEntriesByTarget = new HashMap<>();
+    for (SchemaEntry unexpectedEntry : unexpectedEntries) {
+      unexpectedEntriesByTarget.put(unexpectedEntry.getTarget(), unexpectedEntry);
+    }
+    Map<SchemaEntry, SchemaEntry> mismatchedEntries = new LinkedHashMap<>();
+    for (SchemaEntry missingEntry : missingEntries) {
+      SchemaEntry actualEntry = unexpectedEntriesByTarget.remove(missingEntry.getTarget());
+      if (actualEntry != null) {
+        mismatchedEntries.put(missingEntry, actualEntry);
+      }
+    }
+    missingEntries.removeAll(mismatchedEntries.keySet());
+    unexpectedEntries.removeAll(mismatchedEntries.values());
+    throw Failures.instance().failure(info, shouldMatchSchema(actualEntries, expectedEntries, missingEntries,
+                                                              unexpectedEntries, mismatchedEntries));
+  }
+}
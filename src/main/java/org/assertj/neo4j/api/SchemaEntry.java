@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Canonical form of an index or a constraint: what it applies to and its kind, compared by value.
+ */
+final class SchemaEntry {
+
+  enum Kind {
+    INDEX, UNIQUENESS, NODE_PROPERTY_EXISTENCE, RELATIONSHIP_PROPERTY_EXISTENCE
+  }
+
+  private final Kind kind;
+  private final Target target;
+
+  SchemaEntry(Kind kind, String labelOrType, List<String> propertyKeys) {
+    this.kind = kind;
+    this.target = new Target(kind == Kind.RELATIONSHIP_PROPERTY_EXISTENCE, labelOrType, propertyKeys);
+  }
+
+  /**
+   * Returns what the entry applies to, the same for entries of different kinds on the same label or type and
+   * property keys.
+   */
+  Object getTarget() {
+    return target;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof SchemaEntry)) {
+      return false;
+    }
+    SchemaEntry entry = (SchemaEntry) other;
+    return kind == entry.kind && target.equals(entry.target);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * kind.hashCode() + target.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    String keys = String.join(", ", target.propertyKeys);
+    switch (kind) {
+      case INDEX:
+        return "INDEX ON :" + target.labelOrType + "(" + keys + ")";
+      case UNIQUENESS:
+        return "CONSTRAINT ON (n:" + target.labelOrType + ") ASSERT n." + keys + " IS UNIQUE";
+      case NODE_PROPERTY_EXISTENCE:
+        return "CONSTRAINT ON (n:" + target.labelOrType + ") ASSERT exists(n." + keys + ")";
+      default:
+        return "CONSTRAINT ON ()-[r:" + target.labelOrType + "]-() ASSERT exists(r." + keys + ")";
+    }
+  }
+
+  private static final class Target {
+
+    private final boolean relationship;
+    private final String labelOrType;
+    private final List<String> propertyKeys;
+
+    private Target(boolean relationship, String labelOrType, List<String> propertyKeys) {
+      this.relationship = relationship;
+      this.labelOrType = labelOrType;
+      this.propertyKeys = Collections.unmodifiableList(propertyKeys);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Target)) {
+        return false;
+      }
+      Target target = (Target) other;
+      return relationship == target.relationship && labelOrType.equals(target.labelOrType)
+             && propertyKeys.equals(target.propertyKeys);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(relationship, labelOrType, propertyKeys);
+    }
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.internal.Objects;
+import org.neo4j.graphdb.Result;
+import org.neo4j.graphdb.Result.ResultRow;
+import org.neo4j.graphdb.Result.ResultVisitor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.assertj.neo4j.error.ShouldHaveRowCount.shouldHaveRowCount;
+import static org.assertj.neo4j.error.ShouldHaveRowCount.shouldHaveRowCountButHadMore;
+import static org.assertj.neo4j.error.ShouldRowsMatch.shouldAllRowsMatch;
+import static org.assertj.neo4j.error.ShouldRowsMatch.shouldAnyRowMatch;
+import static org.assertj.neo4j.error.ShouldRowsMatch.shouldNoRowMatch;
+
+/**
+ * Assertions for Neo4J {@link Result}, visiting one row at a time through {@link Result#accept(ResultVisitor)} and
+ * never keeping any of them in memory.
+ * <p>
+ * Every assertion stops visiting rows as soon as its outcome is known. Neo4j closes the actual {@link Result} at the
+ * end of every visit though, so the rows left after an assertion stopped early cannot be counted by
+ * {@link #hasRowCount(long)} later in the chain.
+ * <p>
+ * Predicates are given the {@link ResultRow} Neo4j reuses from one row to the next, it should not be kept around.
+ */
+public class StreamingResultAssert extends AbstractAssert<StreamingResultAssert, Result> {
+
+  private long consumedRows;
+  private boolean visited;
+  private boolean exhausted;
+
+  protected StreamingResultAssert(Result actual) {
+    super(actual, StreamingResultAssert.class);
+  }
+
+  private static void checkPredicateIsNotNull(Predicate<?> predicate) {
+    if (predicate == null) {
+      throw new IllegalArgumentException("The predicate to match rows against should not be null");
+    }
+  }
+
+  public Result getActual() {
+    return actual;
+  }
+
+  /**
+   * Verifies that all the rows of the actual {@link Result} match the given predicate<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Result result = graph.execute(&quot;MATCH (n:DOUGHNUT) RETURN n.glazed AS glazed&quot;);
+   *
+   * assertThat(result).streaming().allMatch(row -&gt; row.getBoolean(&quot;glazed&quot;));
+   * </pre>
+   *
+   * If the <code>predicate</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param predicate the predicate every row should match
+   * @return this {@link StreamingResultAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>predicate</code> is {@code null}.
+   * @throws IllegalStateException if rows have already been visited by a previous assertion.
+   * @throws AssertionError if one row of the actual {@link Result} does not match the given predicate
+   */
+  public StreamingResultAssert allMatch(Predicate<? super ResultRow> predicate) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkPredicateIsNotNull(predicate);
+    checkNoRowConsumed();
+    RowScanner scanner = scanUntil(predicate.negate());
+    if (scanner.hasStopped()) {
+      throw Failures.instance().failure(info, shouldAllRowsMatch(consumedRows - 1, scanner.stopRow));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that at least one row of the actual {@link Result} matches the given predicate<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Result result = graph.execute(&quot;MATCH (n:DOUGHNUT) RETURN n.flavour AS flavour&quot;);
+   *
+   * assertThat(result).streaming().anyMatch(row -&gt; &quot;chocolate&quot;.equals(row.getString(&quot;flavour&quot;)));
+   * </pre>
+   *
+   * If the <code>predicate</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param predicate the predicate one row should match
+   * @return this {@link StreamingResultAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>predicate</code> is {@code null}.
+   * @throws IllegalStateException if rows have already been visited by a previous assertion.
+   * @throws AssertionError if no row of the actual {@link Result} matches the given predicate
+   */
+  public StreamingResultAssert anyMatch(Predicate<? super ResultRow> predicate) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkPredicateIsNotNull(predicate);
+    checkNoRowConsumed();
+    if (!scanUntil(predicate).hasStopped()) {
+      throw Failures.instance().failure(info, shouldAnyRowMatch(consumedRows));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that no row of the actual {@link Result} matches the given predicate<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Result result = graph.execute(&quot;MATCH (n:DOUGHNUT) RETURN n.flavour AS flavour&quot;);
+   *
+   * assertThat(result).streaming().noneMatch(row -&gt; &quot;broccoli&quot;.equals(row.getString(&quot;flavour&quot;)));
+   * </pre>
+   *
+   * If the <code>predicate</code> is {@code null}, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param predicate the predicate no row should match
+   * @return this {@link StreamingResultAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>predicate</code> is {@code null}.
+   * @throws IllegalStateException if rows have already been visited by a previous assertion.
+   * @throws AssertionError if one row of the actual {@link Result} matches the given predicate
+   */
+  public StreamingResultAssert noneMatch(Predicate<? super ResultRow> predicate) {
+    Objects.instance().assertNotNull(info, actual);
+
+    checkPredicateIsNotNull(predicate);
+    checkNoRowConsumed();
+    RowScanner scanner = scanUntil(predicate);
+    if (scanner.hasStopped()) {
+      throw Failures.instance().failure(info, shouldNoRowMatch(consumedRows - 1, scanner.stopRow));
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that the actual {@link Result} has the given number of rows<br/>
+   * <p>
+   * Example:
+   *
+   * <pre>
+   * GraphDatabaseService graph = new TestGraphDatabaseFactory().newImpermanentDatabase();
+   * Result result = graph.execute(&quot;MATCH (n:DOUGHNUT) RETURN n&quot;);
+   *
+   * assertThat(result).streaming().hasRowCount(1_000_000);
+   * </pre>
+   *
+   * Rows visited by previous assertions of the chain are counted as well, as the actual {@link Result} cannot be
+   * visited twice. Otherwise counting stops as soon as it is known to have more rows than expected.<br/>
+   * If a previous assertion of the chain stopped before the last row, {@link #anyMatch(Predicate)} for instance, an
+   * {@link IllegalStateException} is thrown.<br/>
+   * If the <code>rowCount</code> is strictly negative, an {@link IllegalArgumentException} is thrown.
+   * <p>
+   *
+   * @param rowCount the expected number of rows of the actual {@link Result}
+   * @return this {@link StreamingResultAssert} for assertions chaining
+   *
+   * @throws IllegalArgumentException if <code>rowCount</code> is strictly negative.
+   * @throws IllegalStateException if a previous assertion stopped visiting rows before the last one.
+   * @throws AssertionError if the actual {@link Result} has a different number of rows
+   */
+  public StreamingResultAssert hasRowCount(long rowCount) {
+    Objects.instance().assertNotNull(info, actual);
+
+    if (rowCount < 0) {
+      throw new IllegalArgumentException("The row count to compare against should be positive.");
+    }
+    if (visited && !exhausted) {
+      throw new IllegalStateException(
+        String.format("Only %d rows have been visited by a previous assertion, the others cannot be counted",
+                      consumedRows));
+    }
+    if (!visited && scanUntil(row -> consumedRows > rowCount).hasStopped()) {
+      throw Failures.instance().failure(info, shouldHaveRowCountButHadMore(rowCount));
+    }
+    if (consumedRows != rowCount) {
+      throw Failures.instance().failure(info, shouldHaveRowCount(consumedRows, rowCount));
+    }
+    return this;
+  }
+
+  private void checkNoRowConsumed() {
+    if (visited) {
+      throw new IllegalStateException("The rows of the result have already been visited by a previous assertion");
+    }
+  }
+
+  private RowScanner scanUntil(Predicate<? super ResultRow> stopCondition) {
+    RowScanner scanner = new RowScanner(stopCondition);
+    visited = true;
+    actual.accept(scanner);
+    exhausted = !scanner.hasStopped();
+    return scanner;
+  }
+
+  /**
+   * Visits the rows until one of them meets the stop condition. The {@link ResultRow} handed over by Neo4j is reused
+   * from one row to the next, so only the row the visit stopped at is copied.
+   */
+  private final class RowScanner implements ResultVisitor<RuntimeException> {
+
+    private final Predicate<? super ResultRow> stopCondition;
+    private boolean stopped;
+    private Map<String, Object> stopRow;
+
+    private RowScanner(Predicate<? super ResultRow> stopCondition) {
+      this.stopCondition = stopCondition;
+    }
+
+    @Override
+    public boolean visit(ResultRow row) {
+      consumedRows++;
+      if (stopCondition.test(row)) {
+        stopped = true;
+        stopRow = copy(row);
+        return false;
+      }
+      return true;
+    }
+
+    private boolean hasStopped() {
+      return stopped;
+    }
+
+    private Map<String, Object> copy(ResultRow row) {
+      Map<String, Object> values = new LinkedHashMap<>();
+      for (String column : actual.columns()) {
+        values.put(column, row.get(column));
+      }
+      return values;
+    }
+  }
+}
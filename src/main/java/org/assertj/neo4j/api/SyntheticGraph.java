@@ -0,0 +1,437 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.assertj.neo4j.api.GraphFixture.FixtureNode;
+import org.assertj.neo4j.api.GraphFixture.FixtureRelationship;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Seeded generator of synthetic graphs of a given shape, for assertions and benchmarks at scale that are reproducible
+ * without external data: the same seed always generates the same graph.
+ * <p>
+ * Generated nodes have the ids <code>0</code> to <code>nodeCount - 1</code>. Nodes and relationships are generated
+ * lazily, they can be written through a {@link GraphFixture}, without transactions, or to an existing database in
+ * batched transactions.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * SyntheticGraph people = SyntheticGraph.barabasiAlbert(1_000_000, 3)
+ *                                       .withSeed(42)
+ *                                       .withRelationshipType(&quot;KNOWS&quot;)
+ *                                       .withLabel(&quot;PERSON&quot;, 1.0)
+ *                                       .withLabel(&quot;BAKER&quot;, 0.01)
+ *                                       .withNodeProperty(&quot;age&quot;, random -&gt; 18 + random.nextInt(80));
+ *
+ * try (GraphFixture fixture = GraphFixture.builder()
+ *                                         .nodes(people.nodes())
+ *                                         .relationships(people.relationships())
+ *                                         .build()) {
+ *   assertThat(fixture.getGraphDatabaseService()).hasNodeCount(&quot;PERSON&quot;, 1_000_000);
+ * }
+ * </pre>
+ */
+public final class SyntheticGraph {
+
+  private static final long RELATIONSHIP_SEED_MIX = 0x9E3779B97F4A7C15L;
+
+  private final int nodeCount;
+  private final Function<SplittableRandom, Relationships> shape;
+  private final List<String> labels = new ArrayList<>();
+  private final List<Double> labelProbabilities = new ArrayList<>();
+  private final List<String> propertyKeys = new ArrayList<>();
+  private final List<Function<SplittableRandom, Object>> propertyValues = new ArrayList<>();
+  private long seed;
+  private String relationshipType = "RELATED_TO";
+
+  private SyntheticGraph(int nodeCount, Function<SplittableRandom, Relationships> shape) {
+    if (nodeCount < 0) {
+      throw new IllegalArgumentException("The node count should be positive.");
+    }
+    this.nodeCount = nodeCount;
+    this.shape = shape;
+  }
+
+  /**
+   * Creates a chain, every node being related to the next one.
+   *
+   * @param nodeCount the number of nodes of the graph
+   * @return the generator of the graph
+   * @throws IllegalArgumentException if <code>nodeCount</code> is strictly negative.
+   */
+  public static SyntheticGraph chain(int nodeCount) {
+    return new SyntheticGraph(nodeCount, random -> new Relationships() {
+      private long next = 1;
+
+      @Override
+      boolean advance() {
+        if (next >= nodeCount) {
+          return false;
+        }
+        startNode = next - 1;
+        endNode = next++;
+        return true;
+      }
+    });
+  }
+
+  /**
+   * Creates a complete tree, every node being related to its children, nodes being numbered breadth first.
+   *
+   * @param nodeCount the number of nodes of the graph
+   * @param branchingFactor the number of children of every node but the leaves and the last parent
+   * @return the generator of the graph
+   * @throws IllegalArgumentException if <code>nodeCount</code> is strictly negative or <code>branchingFactor</code>
+   *           is not strictly positive.
+   */
+  public static SyntheticGraph tree(int nodeCount, int branchingFactor) {
+    if (branchingFactor <= 0) {
+      throw new IllegalArgumentException("The branching factor should be strictly positive.");
+    }
+    return new SyntheticGraph(nodeCount, random -> new Relationships() {
+      private long child = 1;
+
+      @Override
+      boolean advance() {
+        if (child >= nodeCount) {
+          return false;
+        }
+        startNode = (child - 1) / branchingFactor;
+        endNode = child++;
+        return true;
+      }
+    });
+  }
+
+  /**
+   * Creates an Erdos-Renyi graph, every pair of distinct nodes being related with the given probability. The
+   * relationship goes from the node with the lowest id to the other one.
+   * <p>
+   * Pairs are skipped geometrically (Batagelj and Brandes), the generation time is linear in the number of nodes and
+   * relationships.
+   *
+   * @param nodeCount the number of nodes of the graph
+   * @param probability the probability of every pair of nodes to be related, between 0 and 1
+   * @return the generator of the graph
+   * @throws IllegalArgumentException if <code>nodeCount</code> is strictly negative or <code>probability</code> is
+   *           not between 0 and 1.
+   */
+  public static SyntheticGraph erdosRenyi(int nodeCount, double probability) {
+    if (!(probability >= 0 && probability <= 1)) {
+      throw new IllegalArgumentException("The probability should be between 0 and 1.");
+    }
+    double logOfMissProbability = Math.log(1 - probability);
+    return new SyntheticGraph(nodeCount, random -> new Relationships() {
+      private long higher = 1;
+      private long lower = -1;
+
+      @Override
+      boolean advance() {
+        if (probability == 0) {
+          return false;
+        }
+        lower += probability == 1 ? 1 : 1 + (long) Math.floor(Math.log(1 - random.nextDouble()) / logOfMissProbability);
+        while (lower >= higher && higher < nodeCount) {
+          lower -= higher;
+          higher++;
+        }
+        if (higher >= nodeCount) {
+          return false;
+        }
+        startNode = lower;
+        endNode = higher;
+        return true;
+      }
+    });
+  }
+
+  /**
+   * Creates a Barabasi-Albert graph, with a power-law degree distribution: every node but the first one is related to
+   * the given number of nodes generated before it, chosen with a probability proportional to their degree. A node is
+   * never related to itself, the end node is drawn again instead, but it can be related several times to the same
+   * node.
+   * <p>
+   * The generator keeps both nodes of every relationship generated so far, which takes
+   * <code>8 * nodeCount * relationshipsPerNode</code> bytes while relationships are generated.
+   *
+   * @param nodeCount the number of nodes of the graph
+   * @param relationshipsPerNode the number of relationships every node starts
+   * @return the generator of the graph
+   * @throws IllegalArgumentException if <code>nodeCount</code> is strictly negative or
+   *           <code>relationshipsPerNode</code> is not strictly positive.
+   */
+  public static SyntheticGraph barabasiAlbert(int nodeCount, int relationshipsPerNode) {
+    if (relationshipsPerNode <= 0) {
+      throw new IllegalArgumentException("The number of relationships per node should be strictly positive.");
+    }
+    if (2L * nodeCount * relationshipsPerNode > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("The number of relationships should be at most " + Integer.MAX_VALUE / 2);
+    }
+    return new SyntheticGraph(nodeCount, random -> new Relationships() {
+      // the start and end nodes of the relationship k are stored at 2 * k and 2 * k + 1
+      private final int[] endpoints = new int[2 * Math.max(0, nodeCount - 1) * relationshipsPerNode];
+      private int next;
+
+      @Override
+      boolean advance() {
+        if (2 * next == endpoints.length) {
+          return false;
+        }
+        int start = next / relationshipsPerNode + 1;
+        int end = 0;
+        if (next > 0) {
+          // picks an endpoint of the relationships generated so far, drawn again when it is the start node itself,
+          // node 0 ends the relationships of node 1 so that another node can always be drawn
+          do {
+            end = endpoints[random.nextInt(2 * next)];
+          } while (end == start);
+        }
+        endpoints[2 * next] = start;
+        endpoints[2 * next + 1] = end;
+        next++;
+        startNode = start;
+        endNode = end;
+        return true;
+      }
+    });
+  }
+
+  /**
+   * Sets the seed of the random generators, 0 by default.
+   *
+   * @param seed the seed
+   * @return this generator
+   */
+  public SyntheticGraph withSeed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+  /**
+   * Sets the type of the generated relationships, <code>RELATED_TO</code> by default.
+   *
+   * @param relationshipType the relationship type
+   * @return this generator
+   * @throws IllegalArgumentException if <code>relationshipType</code> is {@code null}.
+   */
+  public SyntheticGraph withRelationshipType(String relationshipType) {
+    if (relationshipType == null) {
+      throw new IllegalArgumentException("The relationship type should not be null");
+    }
+    this.relationshipType = relationshipType;
+    return this;
+  }
+
+  /**
+   * Gives the label to every node with the given probability.
+   *
+   * @param label the label
+   * @param probability the probability of every node to have the label, between 0 and 1
+   * @return this generator
+   * @throws IllegalArgumentException if <code>label</code> is {@code null} or <code>probability</code> is not
+   *           between 0 and 1.
+   */
+  public SyntheticGraph withLabel(String label, double probability) {
+    if (label == null) {
+      throw new IllegalArgumentException("The label should not be null");
+    }
+    if (!(probability >= 0 && probability <= 1)) {
+      throw new IllegalArgumentException("The probability should be between 0 and 1.");
+    }
+    labels.add(label);
+    labelProbabilities.add(probability);
+    return this;
+  }
+
+  /**
+   * Gives a property to every node, its value being drawn from the given distribution. The distribution gets the
+   * seeded random generator of the nodes, it should return a value Neo4j can store or {@code null} for nodes without
+   * the property.
+   *
+   * @param key the property key
+   * @param values the distribution of the property values
+   * @return this generator
+   * @throws IllegalArgumentException if <code>key</code> or <code>values</code> is {@code null}.
+   */
+  public SyntheticGraph withNodeProperty(String key, Function<SplittableRandom, Object> values) {
+    if (key == null || values == null) {
+      throw new IllegalArgumentException("The property key and values should not be null");
+    }
+    propertyKeys.add(key);
+    propertyValues.add(values);
+    return this;
+  }
+
+  /**
+   * @return the number of nodes of the graph
+   */
+  public int getNodeCount() {
+    return nodeCount;
+  }
+
+  /**
+   * @return the nodes of the graph, generated lazily, the same ones for every call
+   */
+  public Stream<FixtureNode> nodes() {
+    SplittableRandom random = new SplittableRandom(seed);
+    String[] nodeLabels = new String[labels.size()];
+    return StreamSupport.stream(Spliterators.spliterator(new Iterator<FixtureNode>() {
+      private int next;
+
+      @Override
+      public boolean hasNext() {
+        return next < nodeCount;
+      }
+
+      @Override
+      public FixtureNode next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        FixtureNode node = GraphFixture.node(next++, drawLabels(random, nodeLabels));
+        drawProperties(random, node::withProperty);
+        return node;
+      }
+    }, nodeCount, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+  }
+
+  /**
+   * @return the relationships of the graph, generated lazily, the same ones for every call
+   */
+  public Stream<FixtureRelationship> relationships() {
+    Relationships relationships = shape.apply(new SplittableRandom(seed ^ RELATIONSHIP_SEED_MIX));
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Iterator<FixtureRelationship>() {
+      private boolean advanced;
+      private boolean hasNext;
+
+      @Override
+      public boolean hasNext() {
+        if (!advanced) {
+          hasNext = relationships.advance();
+          advanced = true;
+        }
+        return hasNext;
+      }
+
+      @Override
+      public FixtureRelationship next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        advanced = false;
+        return GraphFixture.relationship(relationships.startNode, relationshipType, relationships.endNode);
+      }
+    }, Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+  /**
+   * Writes the graph to the given database, committing a transaction every <code>batchSize</code> nodes or
+   * relationships. The ids given by the database to the nodes are kept in an array of <code>nodeCount</code> longs
+   * while the relationships are written.
+   *
+   * @param graph the database to write the graph to
+   * @param batchSize the number of nodes or relationships written per transaction
+   * @throws IllegalArgumentException if <code>graph</code> is {@code null} or <code>batchSize</code> is not strictly
+   *           positive.
+   */
+  public void writeTo(GraphDatabaseService graph, int batchSize) {
+    if (graph == null) {
+      throw new IllegalArgumentException("The graph database to write to should not be null");
+    }
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("The batch size should be strictly positive.");
+    }
+    long[] nodeIds = new long[nodeCount];
+    SplittableRandom random = new SplittableRandom(seed);
+    Label[] nodeLabels = new Label[labels.size()];
+    for (int first = 0; first < nodeCount; first += batchSize) {
+      try (Transaction transaction = graph.beginTx()) {
+        for (int id = first; id < Math.min(nodeCount, first + batchSize); id++) {
+          Node node = graph.createNode(drawLabels(random, nodeLabels, Label::label));
+          drawProperties(random, node::setProperty);
+          nodeIds[id] = node.getId();
+        }
+        transaction.success();
+      }
+    }
+    RelationshipType type = RelationshipType.withName(relationshipType);
+    Relationships relationships = shape.apply(new SplittableRandom(seed ^ RELATIONSHIP_SEED_MIX));
+    boolean more = true;
+    while (more) {
+      try (Transaction transaction = graph.beginTx()) {
+        for (int written = 0; written < batchSize && (more = relationships.advance()); written++) {
+          Node start = graph.getNodeById(nodeIds[(int) relationships.startNode]);
+          start.createRelationshipTo(graph.getNodeById(nodeIds[(int) relationships.endNode]), type);
+        }
+        transaction.success();
+      }
+    }
+  }
+
+  private String[] drawLabels(SplittableRandom random, String[] buffer) {
+    return drawLabels(random, buffer, Function.identity());
+  }
+
+  private <L> L[] drawLabels(SplittableRandom random, L[] buffer, Function<String, L> toLabel) {
+    int count = 0;
+    for (int i = 0; i < labels.size(); i++) {
+      if (random.nextDouble() < labelProbabilities.get(i)) {
+        buffer[count++] = toLabel.apply(labels.get(i));
+      }
+    }
+    return Arrays.copyOf(buffer, count);
+  }
+
+  private void drawProperties(SplittableRandom random, BiConsumer<String, Object> properties) {
+    for (int i = 0; i < propertyKeys.size(); i++) {
+      Object value = propertyValues.get(i).apply(random);
+      if (value != null) {
+        properties.accept(propertyKeys.get(i), value);
+      }
+    }
+  }
+
+  /**
+   * Relationships of a shape, generated one at a time.
+   */
+  private abstract static class Relationships {
+
+    long startNode;
+    long endNode;
+
+    /**
+     * Generates the next relationship.
+     *
+     * @return {@code false} if all the relationships have been generated
+     */
+    abstract boolean advance();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public class ShouldAllNodesWithLabel extends BasicErrorMessageFactory {
+
+  private ShouldAllNodesWithLabel(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldAllNodesWithLabel}</code> for requirements.
+   *
+   * @param label the label of the checked nodes.
+   * @param failures the error messages of the nodes not satisfying the requirements, by node id.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAllSatisfy(String label, Map<Long, String> failures) {
+    return new ShouldAllNodesWithLabel("\nExpecting all nodes with label:\n  <%s>\nto satisfy the given requirements " +
+                                       "but these nodes did not:\n  <%s>\n", label, failures);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldAllNodesWithLabel}</code> for a property key.
+   *
+   * @param label the label of the checked nodes.
+   * @param key the property key the nodes should have.
+   * @param nodeIds the ids of the nodes not having the property key.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAllHavePropertyKey(String label, String key, Collection<Long> nodeIds) {
+    return new ShouldAllNodesWithLabel("\nExpecting all nodes with label:\n  <%s>\nto have property key:\n  <%s>\n" +
+                                       "but these nodes did not:\n  <%s>\n", label, key, nodeIds);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldAllNodesWithLabel}</code> for a label nodes should not have.
+   *
+   * @param label the label of the checked nodes.
+   * @param otherLabel the label the nodes should not have.
+   * @param nodeIds the ids of the nodes having the other label.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldNoneHaveLabel(String label, String otherLabel, Collection<Long> nodeIds) {
+    return new ShouldAllNodesWithLabel("\nExpecting no node with label:\n  <%s>\nto have label:\n  <%s>\n" +
+                                       "but these nodes did:\n  <%s>\n", label, otherLabel, nodeIds);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldAllNodesWithLabel}</code> for property keys nodes should have unique values for.
+   *
+   * @param label the label of the checked nodes.
+   * @param keys the property keys the nodes should have unique values for.
+   * @param duplicateCount the number of groups of nodes sharing the same values.
+   * @param duplicates the ids of some of the nodes sharing the same values, by values.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveUniqueValues(String label, Collection<String> keys, int duplicateCount,
+                                                           Map<Map<String, Object>, List<Long>> duplicates) {
+    return new ShouldAllNodesWithLabel("\nExpecting all nodes with label:\n  <%s>\nto have unique values for:\n" +
+                                       "  <%s>\nbut found %s groups of nodes sharing values, such as:\n  <%s>\n",
+                                       label, keys, duplicateCount, duplicates);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+public class ShouldContainRows extends BasicErrorMessageFactory {
+
+  private ShouldContainRows(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldContainRows}</code> when the actual result misses some of the given rows.
+   *
+   * @param missingRows the given rows not found in the actual result.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainRows(Iterable<?> missingRows) {
+    return new ShouldContainRows("\nExpecting result to contain all given rows but could not find:\n  <%s>\n",
+                                 missingRows);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldContainRows}</code> when the actual result does not contain only the given rows.
+   *
+   * @param missingRows the given rows not found in the actual result.
+   * @param unexpectedRows the rows of the actual result not among the given ones.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainOnlyRows(Iterable<?> missingRows, Iterable<?> unexpectedRows) {
+    return new ShouldContainRows("\nExpecting result to contain only given rows but could not find:\n  <%s>\n" +
+                                 "and found unexpected rows:\n  <%s>\n", missingRows, unexpectedRows);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldContainRows}</code> when the actual result does not contain exactly the given
+   * rows in any order.
+   *
+   * @param missingRows the given rows not found in the actual result, repeated as many times as they are missing.
+   * @param unexpectedRows the rows of the actual result not matched by any given one.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldContainExactlyInAnyOrderRows(Iterable<?> missingRows,
+                                                                       Iterable<?> unexpectedRows) {
+    return new ShouldContainRows("\nExpecting result to contain exactly given rows in any order but could not find:\n" +
+                                 "  <%s>\nand found unexpected rows:\n  <%s>\n", missingRows, unexpectedRows);
+  }
+}
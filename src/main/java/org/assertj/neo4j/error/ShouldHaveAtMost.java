@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+public class ShouldHaveAtMost extends BasicErrorMessageFactory {
+
+  private ShouldHaveAtMost(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveAtMost}</code> for the db hits of a whole execution plan.
+   *
+   * @param actualDbHits the db hits of the actual execution plan.
+   * @param maxDbHits the maximum number of db hits.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveTotalDbHitsAtMost(long actualDbHits, long maxDbHits) {
+    return new ShouldHaveAtMost("\nExpecting execution plan to have at most:\n  <%s>\ndb hits but had:\n  <%s>\n",
+                                maxDbHits, actualDbHits);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveAtMost}</code> for the db hits of some operators of an execution plan.
+   *
+   * @param operatorName the name of the operators.
+   * @param actualDbHits the db hits of these operators.
+   * @param maxDbHits the maximum number of db hits.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveOperatorDbHitsAtMost(String operatorName, long actualDbHits,
+                                                                   long maxDbHits) {
+    return new ShouldHaveAtMost("\nExpecting operators %s of execution plan to have at most:\n  <%s>\n" +
+                                "db hits but had:\n  <%s>\n", operatorName, maxDbHits, actualDbHits);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveAtMost}</code> for the rows produced by some operators of an execution plan.
+   *
+   * @param operatorName the name of the operators.
+   * @param actualRows the rows produced by these operators.
+   * @param maxRows the maximum number of rows.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveOperatorRowsAtMost(String operatorName, long actualRows, long maxRows) {
+    return new ShouldHaveAtMost("\nExpecting operators %s of execution plan to produce at most:\n  <%s>\n" +
+                                "rows but produced:\n  <%s>\n", operatorName, maxRows, actualRows);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+public class ShouldHaveChanges extends BasicErrorMessageFactory {
+
+  private ShouldHaveChanges(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveChanges}</code> for a number of changed entities.
+   *
+   * @param change the kind of change, such as &quot;created&quot;.
+   * @param entities the kind of changed entities, such as &quot;nodes&quot;.
+   * @param actualCount the actual number of changed entities.
+   * @param expectedCount the expected number of changed entities.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveChangeCount(String change, String entities, long actualCount,
+                                                          long expectedCount) {
+    return new ShouldHaveChanges("\nExpecting transactions to have " + change + ":\n  <%s>\n" + entities + " but " +
+                                 change + ":\n  <%s>\n", expectedCount, actualCount);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveChanges}</code> for a label the changes should not touch.
+   *
+   * @param label the label of the touched nodes.
+   * @param nodeIds the ids of the touched nodes.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldNotHaveTouchedLabel(String label, long[] nodeIds) {
+    return new ShouldHaveChanges("\nExpecting transactions not to touch nodes with label:\n  <%s>\n" +
+                                 "but touched nodes:\n  <%s>\n", label, nodeIds);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveChanges}</code> when nothing should have changed.
+   *
+   * @param changes the actual changes.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveNoChanges(Object changes) {
+    return new ShouldHaveChanges("\nExpecting transactions not to change anything but changed:\n  <%s>\n", changes);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.Map;
+
+public class ShouldHaveDegree extends BasicErrorMessageFactory {
+
+  private ShouldHaveDegree(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  private static String escape(String relationships) {
+    return relationships.replace("%", "%%");
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveDegree}</code>.
+   *
+   * @param actual the actual node in the failed assertion.
+   * @param relationships the description of the counted relationships.
+   * @param actualDegree the degree of the actual node.
+   * @param expectedDegree the expected degree.
+   * @param degreesByType the degrees of the actual node by relationship type.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveDegree(Object actual, String relationships, int actualDegree,
+                                                     int expectedDegree, Map<String, Integer> degreesByType) {
+    return new ShouldHaveDegree("\nExpecting:\n  <%s>\nto have a degree of:\n  <%s>\nfor " + escape(relationships) +
+                                " but had:\n  <%s>\ndegrees by type were:\n  <%s>\n",
+                                actual, expectedDegree, actualDegree, degreesByType);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveDegree}</code> for a maximum degree.
+   *
+   * @param actual the actual node in the failed assertion.
+   * @param relationships the description of the counted relationships.
+   * @param actualDegree the degree of the actual node.
+   * @param maxDegree the maximum degree.
+   * @param degreesByType the degrees of the actual node by relationship type.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveDegreeAtMost(Object actual, String relationships, int actualDegree,
+                                                           int maxDegree, Map<String, Integer> degreesByType) {
+    return new ShouldHaveDegree("\nExpecting:\n  <%s>\nto have a degree of at most:\n  <%s>\nfor " +
+                                escape(relationships) + " but had:\n  <%s>\ndegrees by type were:\n  <%s>\n",
+                                actual, maxDegree, actualDegree, degreesByType);
+  }
+}
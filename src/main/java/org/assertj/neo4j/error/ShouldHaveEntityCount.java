@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+public class ShouldHaveEntityCount extends BasicErrorMessageFactory {
+
+  private ShouldHaveEntityCount(String entities, String pattern, long actualCount, long expectedCount) {
+    super("\nExpecting graph database to have:\n  <%s>\n" + entities + " matching:\n  <%s>\nbut had:\n  <%s>\n",
+          expectedCount, pattern, actualCount);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveEntityCount}</code> for nodes.
+   *
+   * @param pattern the pattern the counted nodes match.
+   * @param actualCount the actual number of nodes.
+   * @param expectedCount the expected number of nodes.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveNodeCount(String pattern, long actualCount, long expectedCount) {
+    return new ShouldHaveEntityCount("nodes", pattern, actualCount, expectedCount);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveEntityCount}</code> for relationships.
+   *
+   * @param pattern the pattern the counted relationships match.
+   * @param actualCount the actual number of relationships.
+   * @param expectedCount the expected number of relationships.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveRelationshipCount(String pattern, long actualCount,
+                                                                long expectedCount) {
+    return new ShouldHaveEntityCount("relationships", pattern, actualCount, expectedCount);
+  }
+}
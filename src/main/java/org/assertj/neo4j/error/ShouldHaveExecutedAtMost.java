@@ -0,0 +1,40 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.time.Duration;
+
+public class ShouldHaveExecutedAtMost extends BasicErrorMessageFactory {
+
+  private ShouldHaveExecutedAtMost(int actualCount, int maxCount, Duration totalTime, String report) {
+    super("\nExpecting code to execute at most:\n  <%s>\nqueries but executed:\n  <%s>\nqueries in <%s>, by query:" +
+          report.replace("%", "%%") + "\n", maxCount, actualCount, totalTime);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveExecutedAtMost}</code>.
+   *
+   * @param actualCount the number of queries executed by the code.
+   * @param maxCount the maximum number of queries.
+   * @param totalTime the time spent executing the queries.
+   * @param report the executed queries with their counts and times, one per line.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveExecutedAtMost(int actualCount, int maxCount, Duration totalTime,
+                                                             String report) {
+    return new ShouldHaveExecutedAtMost(actualCount, maxCount, totalTime, report);
+  }
+}
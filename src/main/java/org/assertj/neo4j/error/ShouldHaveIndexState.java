@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema.IndexState;
+
+import java.util.Locale;
+
+public class ShouldHaveIndexState extends BasicErrorMessageFactory {
+
+  private ShouldHaveIndexState(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveIndexState}</code> when the actual index is not in the expected state.
+   *
+   * @param actual the actual index in the failed assertion.
+   * @param expectedState the state the index should be in.
+   * @param actualState the state the index is in.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveIndexState(IndexDefinition actual, IndexState expectedState,
+                                                         IndexState actualState) {
+    return new ShouldHaveIndexState("\nExpecting index:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>\n", actual,
+                                    expectedState, actualState);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveIndexState}</code> when the actual index failed instead of being in the
+   * expected state.
+   *
+   * @param actual the actual index in the failed assertion.
+   * @param expectedState the state the index should be in.
+   * @param failure the description of the population failure of the index.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveIndexStateButFailed(IndexDefinition actual, IndexState expectedState,
+                                                                  String failure) {
+    return new ShouldHaveIndexState("\nExpecting index:\n  <%s>\nto be:\n  <%s>\nbut failed with:\n  <%s>\n", actual,
+                                    expectedState, failure);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveIndexState}</code> when the actual index is still populating once the
+   * timeout has elapsed.
+   *
+   * @param actual the actual index in the failed assertion.
+   * @param timeoutMillis the time the index was given to become online, in milliseconds.
+   * @param completedPercentage how far the population of the index went before the timeout.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBecomeOnlineWithin(IndexDefinition actual, long timeoutMillis,
+                                                             float completedPercentage) {
+    return new ShouldHaveIndexState("\nExpecting index:\n  <%s>\nto become online within:\n  <%s>\n" +
+                                    "but was still populating, having completed:\n  <%s>\n", actual,
+                                    unquotedString(String.format(Locale.ROOT, "%d ms", timeoutMillis)),
+                                    unquotedString(String.format(Locale.ROOT, "%.1f%%", completedPercentage)));
+  }
+}
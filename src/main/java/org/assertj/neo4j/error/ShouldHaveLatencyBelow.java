@@ -0,0 +1,47 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.time.Duration;
+
+public class ShouldHaveLatencyBelow extends BasicErrorMessageFactory {
+
+  private ShouldHaveLatencyBelow(String query, double percentile, Duration maxLatency, long iterations, Duration p50,
+                                 Duration p90, Duration p99, Duration max) {
+    super("\nExpecting query:\n  <%s>\nto have a latency below:\n  <%s>\nat percentile:\n  <%s>\n" +
+          "but latencies over %s iterations were:\n  <p50=%s, p90=%s, p99=%s, max=%s>\n",
+          query, maxLatency, percentile, iterations, p50, p90, p99, max);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveLatencyBelow}</code>.
+   *
+   * @param query the benchmarked query.
+   * @param percentile the percentile of latencies to compare.
+   * @param maxLatency the latency the percentile should be below.
+   * @param iterations the number of measured executions of the query.
+   * @param p50 the median latency of the query.
+   * @param p90 the 90th percentile latency of the query.
+   * @param p99 the 99th percentile latency of the query.
+   * @param max the maximum latency of the query.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveLatencyBelow(String query, double percentile, Duration maxLatency,
+                                                           long iterations, Duration p50, Duration p90, Duration p99,
+                                                           Duration max) {
+    return new ShouldHaveLatencyBelow(query, percentile, maxLatency, iterations, p50, p90, p99, max);
+  }
+}
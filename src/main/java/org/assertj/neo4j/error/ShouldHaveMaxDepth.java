@@ -0,0 +1,34 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+public class ShouldHaveMaxDepth extends BasicErrorMessageFactory {
+
+  private ShouldHaveMaxDepth(int actualDepth, int maxDepth) {
+    super("\nExpecting execution plan to be at most:\n  <%s>\nlevels deep but was:\n  <%s>\n", maxDepth, actualDepth);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveMaxDepth}</code>.
+   *
+   * @param actualDepth the depth of the actual execution plan.
+   * @param maxDepth the maximum depth of the execution plan.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveMaxDepth(int actualDepth, int maxDepth) {
+    return new ShouldHaveMaxDepth(actualDepth, maxDepth);
+  }
+}
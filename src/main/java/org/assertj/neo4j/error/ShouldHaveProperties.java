@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.Map;
+
+public class ShouldHaveProperties extends BasicErrorMessageFactory {
+
+  private ShouldHaveProperties(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveProperties}</code> when the actual entity misses some of the given
+   * properties.
+   *
+   * @param actual the actual value in the failed assertion.
+   * @param expectedProperties the properties expected to be contained in the actual entity.
+   * @param missingKeys the keys of the given properties the actual entity does not have.
+   * @param differentProperties the actual values of the properties differing from the given ones, by key.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveProperties(Object actual, Map<String, Object> expectedProperties,
+                                                         Iterable<String> missingKeys,
+                                                         Map<String, Object> differentProperties) {
+    return new ShouldHaveProperties("\nExpecting:\n  <%s>\nto have properties:\n  <%s>\n" +
+                                    "but could not find keys:\n  <%s>\nand found different values:\n  <%s>\n",
+                                    actual, expectedProperties, missingKeys, differentProperties);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveProperties}</code> when the actual entity does not have only the given
+   * properties.
+   *
+   * @param actual the actual value in the failed assertion.
+   * @param expectedProperties the only properties expected in the actual entity.
+   * @param missingKeys the keys of the given properties the actual entity does not have.
+   * @param differentProperties the actual values of the properties differing from the given ones, by key.
+   * @param unexpectedProperties the properties of the actual entity whose keys are not among the given ones.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveOnlyProperties(Object actual, Map<String, Object> expectedProperties,
+                                                             Iterable<String> missingKeys,
+                                                             Map<String, Object> differentProperties,
+                                                             Map<String, Object> unexpectedProperties) {
+    return new ShouldHaveProperties("\nExpecting:\n  <%s>\nto have only properties:\n  <%s>\n" +
+                                    "but could not find keys:\n  <%s>\nfound different values:\n  <%s>\n" +
+                                    "and found unexpected properties:\n  <%s>\n",
+                                    actual, expectedProperties, missingKeys, differentProperties,
+                                    unexpectedProperties);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveProperties}</code> when properties of the actual entity do not satisfy the
+   * given requirements.
+   *
+   * @param actual the actual value in the failed assertion.
+   * @param missingKeys the keys of the given requirements the actual entity does not have.
+   * @param errors the errors raised by the requirements the actual property values do not satisfy, by key.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHavePropertiesSatisfying(Object actual, Iterable<String> missingKeys,
+                                                                   Map<String, String> errors) {
+    return new ShouldHaveProperties("\nExpecting properties of:\n  <%s>\nto satisfy the given requirements " +
+                                    "but could not find keys:\n  <%s>\nand found values failing them:\n  <%s>\n",
+                                    actual, missingKeys, errors);
+  }
+}
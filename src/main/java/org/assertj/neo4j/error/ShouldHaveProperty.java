@@ -24,6 +24,19 @@ public class ShouldHaveProperty extends BasicErrorMessageFactory {
           StandardComparisonStrategy.instance());
   }
 
+  private ShouldHaveProperty(PropertyContainer actual, String key, Object value, int index, Object expectedElement,
+                             Object actualElement) {
+    super("\nExpecting:\n  <%s>\nto have property with key:\n  <%s>\nand value:\n  <%s>\n" +
+          "but element at index %s was:\n  <%s>\ninstead of:\n  <%s>\n", actual, key, value, index, actualElement,
+          expectedElement);
+  }
+
+  private ShouldHaveProperty(PropertyContainer actual, String key, Object value, int expectedLength,
+                             int actualLength) {
+    super("\nExpecting:\n  <%s>\nto have property with key:\n  <%s>\nand value:\n  <%s>\n" +
+          "but array length was:\n  <%s>\ninstead of:\n  <%s>\n", actual, key, value, actualLength, expectedLength);
+  }
+
   /**
    * Creates a new </code>{@link ShouldHaveProperty}</code>.
    *
@@ -35,4 +48,37 @@ public class ShouldHaveProperty extends BasicErrorMessageFactory {
   public static ErrorMessageFactory shouldHaveProperty(PropertyContainer actual, String key, Object value) {
     return new ShouldHaveProperty(actual, key, value);
   }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveProperty}</code> reporting the first element the actual array property value
+   * differs from the expected one at.
+   *
+   * @param actual the actual value in the failed assertion.
+   * @param key the key used in the failed assertion to compare the actual property key to.
+   * @param value the array used in the failed assertion to compare the actual property value to.
+   * @param index the index of the first differing element.
+   * @param expectedElement the element of the expected array at <code>index</code>.
+   * @param actualElement the element of the actual array at <code>index</code>.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveProperty(PropertyContainer actual, String key, Object value, int index,
+                                                       Object expectedElement, Object actualElement) {
+    return new ShouldHaveProperty(actual, key, value, index, expectedElement, actualElement);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveProperty}</code> reporting an actual array property value starting with the
+   * expected one, or the other way around, but of a different length.
+   *
+   * @param actual the actual value in the failed assertion.
+   * @param key the key used in the failed assertion to compare the actual property key to.
+   * @param value the array used in the failed assertion to compare the actual property value to.
+   * @param expectedLength the length of the expected array.
+   * @param actualLength the length of the actual array.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHavePropertyOfLength(PropertyContainer actual, String key, Object value,
+                                                               int expectedLength, int actualLength) {
+    return new ShouldHaveProperty(actual, key, value, expectedLength, actualLength);
+  }
 }
@@ -0,0 +1,45 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+public class ShouldHaveRowCount extends BasicErrorMessageFactory {
+
+  private ShouldHaveRowCount(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveRowCount}</code>.
+   *
+   * @param actualRowCount the number of rows of the actual result.
+   * @param expectedRowCount the expected number of rows.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveRowCount(long actualRowCount, long expectedRowCount) {
+    return new ShouldHaveRowCount("\nExpecting result to have:\n  <%s>\nrows but had:\n  <%s>\n", expectedRowCount,
+                                  actualRowCount);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldHaveRowCount}</code> when counting stopped before the end of the result.
+   *
+   * @param expectedRowCount the expected number of rows.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveRowCountButHadMore(long expectedRowCount) {
+    return new ShouldHaveRowCount("\nExpecting result to have:\n  <%s>\nrows but had more\n", expectedRowCount);
+  }
+}
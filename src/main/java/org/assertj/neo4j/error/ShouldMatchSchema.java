@@ -0,0 +1,47 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.Collection;
+import java.util.Map;
+
+public class ShouldMatchSchema extends BasicErrorMessageFactory {
+
+  private ShouldMatchSchema(Collection<?> actualEntries, Collection<?> expectedEntries, Collection<?> missingEntries,
+                            Collection<?> unexpectedEntries, Map<?, ?> mismatchedEntries) {
+    super("\nExpecting schema:\n  <%s>\nto match:\n  <%s>\nbut could not find:\n  <%s>\n" +
+          "found unexpected:\n  <%s>\nand found instead, on the same labels, types and property keys:\n  <%s>\n",
+          actualEntries, expectedEntries, missingEntries, unexpectedEntries, mismatchedEntries);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldMatchSchema}</code>.
+   *
+   * @param actualEntries the indexes and constraints of the actual schema.
+   * @param expectedEntries the indexes and constraints the actual schema should have.
+   * @param missingEntries the expected indexes and constraints the actual schema does not have.
+   * @param unexpectedEntries the indexes and constraints of the actual schema that are not expected.
+   * @param mismatchedEntries the indexes and constraints of the actual schema of another kind than the expected ones on
+   *          the same labels, types and property keys, by expected index or constraint.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldMatchSchema(Collection<?> actualEntries, Collection<?> expectedEntries,
+                                                      Collection<?> missingEntries, Collection<?> unexpectedEntries,
+                                                      Map<?, ?> mismatchedEntries) {
+    return new ShouldMatchSchema(actualEntries, expectedEntries, missingEntries, unexpectedEntries,
+                                 mismatchedEntries);
+  }
+}
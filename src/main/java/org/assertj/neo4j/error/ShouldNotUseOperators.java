@@ -0,0 +1,36 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+public class ShouldNotUseOperators extends BasicErrorMessageFactory {
+
+  private ShouldNotUseOperators(Iterable<String> operatorNames, Iterable<String> usedOperatorNames) {
+    super("\nExpecting execution plan not to use any of these operators:\n  <%s>\nbut used:\n  <%s>\n",
+          operatorNames, usedOperatorNames);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldNotUseOperators}</code>.
+   *
+   * @param operatorNames the names of the operators the execution plan should not use.
+   * @param usedOperatorNames the names of the given operators used by the execution plan.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldNotUseOperators(Iterable<String> operatorNames,
+                                                          Iterable<String> usedOperatorNames) {
+    return new ShouldNotUseOperators(operatorNames, usedOperatorNames);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+import java.util.Map;
+
+public class ShouldRowsMatch extends BasicErrorMessageFactory {
+
+  private ShouldRowsMatch(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldRowsMatch}</code> for a row not matching the predicate all rows should match.
+   *
+   * @param rowIndex the index of the first row not matching the predicate.
+   * @param row the first row not matching the predicate.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAllRowsMatch(long rowIndex, Map<String, Object> row) {
+    return new ShouldRowsMatch("\nExpecting all rows to match given predicate but row at index %s:\n  <%s>\ndid not\n",
+                               rowIndex, row);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldRowsMatch}</code> when no row matched the predicate one row should match.
+   *
+   * @param rowCount the number of rows checked against the predicate.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldAnyRowMatch(long rowCount) {
+    return new ShouldRowsMatch("\nExpecting any row to match given predicate but none of the %s rows did\n",
+                               rowCount);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldRowsMatch}</code> for a row matching the predicate no row should match.
+   *
+   * @param rowIndex the index of the first row matching the predicate.
+   * @param row the first row matching the predicate.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldNoRowMatch(long rowIndex, Map<String, Object> row) {
+    return new ShouldRowsMatch("\nExpecting no row to match given predicate but row at index %s:\n  <%s>\ndid\n",
+                               rowIndex, row);
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.error;
+
+import org.assertj.core.error.BasicErrorMessageFactory;
+import org.assertj.core.error.ErrorMessageFactory;
+
+public class ShouldUseIndexSeekOn extends BasicErrorMessageFactory {
+
+  private ShouldUseIndexSeekOn(String indexDescription, Iterable<String> operatorNames) {
+    super("\nExpecting execution plan to seek index:\n  <%s>\nbut only used operators:\n  <%s>\n",
+          indexDescription, operatorNames);
+  }
+
+  /**
+   * Creates a new </code>{@link ShouldUseIndexSeekOn}</code>.
+   *
+   * @param indexDescription the description of the index the execution plan should seek.
+   * @param operatorNames the names of the operators used by the execution plan.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldUseIndexSeekOn(String indexDescription, Iterable<String> operatorNames) {
+    return new ShouldUseIndexSeekOn(indexDescription, operatorNames);
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+
+import java.util.Collections;
+
+import static org.assertj.neo4j.api.Assertions.assertThatQuery;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class Assertions_assertThatQuery_Test {
+
+  @Test
+  public void should_create_Assert() {
+    Assert.assertThat(assertThatQuery(mock(GraphDatabaseService.class), "RETURN 1"),
+                      instanceOf(QueryLatencyAssert.class));
+  }
+
+  @Test
+  public void should_create_Assert_with_parameters() {
+    Assert.assertThat(assertThatQuery(mock(GraphDatabaseService.class), "RETURN {one}",
+                                      Collections.singletonMap("one", 1L)),
+                      instanceOf(QueryLatencyAssert.class));
+  }
+
+  @Test
+  public void should_pass_actual() {
+    assertEquals("RETURN 1", assertThatQuery(mock(GraphDatabaseService.class), "RETURN 1").getActual());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_if_graph_is_null() {
+    assertThatQuery(null, "RETURN 1");
+  }
+
+}
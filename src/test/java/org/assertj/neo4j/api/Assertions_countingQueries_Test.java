@@ -0,0 +1,57 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api;
+
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Result;
+
+import java.util.Collections;
+
+import static org.assertj.neo4j.api.Assertions.countingQueries;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class Assertions_countingQueries_Test {
+
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+
+  @Test
+  public void should_delegate_queries() {
+    Result result = mock(Result.class);
+    when(graph.execute("MATCH (n) RETURN n", Collections.emptyMap())).thenReturn(result);
+
+    assertSame(result, countingQueries(graph).execute("MATCH (n) RETURN n", Collections.emptyMap()));
+  }
+
+  @Test
+  public void should_delegate_other_operations() {
+    Node node = mock(Node.class);
+    when(graph.getNodeById(42)).thenReturn(node);
+
+    GraphDatabaseService countingGraph = countingQueries(graph);
+    countingGraph.shutdown();
+
+    assertSame(node, countingGraph.getNodeById(42));
+    verify(graph).shutdown();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_if_graph_is_null() {
+    countingQueries(null);
+  }
+
+}
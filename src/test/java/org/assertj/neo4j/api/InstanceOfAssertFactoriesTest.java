@@ -13,6 +13,8 @@
 package org.assertj.neo4j.api;
 
 import org.junit.Test;
+import org.neo4j.graphdb.ExecutionPlanDescription;
+import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.graphdb.Label;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Path;
@@ -22,15 +24,22 @@ import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.Result;
 import org.neo4j.graphdb.schema.ConstraintDefinition;
 import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema;
+
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.neo4j.api.InstanceOfAssertFactories.CONSTRAINT_DEFINITION;
+import static org.assertj.neo4j.api.InstanceOfAssertFactories.EXECUTION_PLAN_DESCRIPTION;
+import static org.assertj.neo4j.api.InstanceOfAssertFactories.GRAPH_CHANGES;
+import static org.assertj.neo4j.api.InstanceOfAssertFactories.GRAPH_DATABASE_SERVICE;
 import static org.assertj.neo4j.api.InstanceOfAssertFactories.INDEX_DEFINITION;
 import static org.assertj.neo4j.api.InstanceOfAssertFactories.NODE;
 import static org.assertj.neo4j.api.InstanceOfAssertFactories.PATH;
 import static org.assertj.neo4j.api.InstanceOfAssertFactories.QUERY_STATISTICS;
 import static org.assertj.neo4j.api.InstanceOfAssertFactories.RELATIONSHIP;
 import static org.assertj.neo4j.api.InstanceOfAssertFactories.RESULT;
+import static org.assertj.neo4j.api.InstanceOfAssertFactories.SCHEMA;
 import static org.assertj.neo4j.api.InstanceOfAssertFactories.propertyContainer;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -116,4 +125,45 @@ public class InstanceOfAssertFactoriesTest {
     result.containsUpdates();
   }
 
+  @SuppressWarnings("CastCanBeRemovedNarrowingVariableType")
+  @Test
+  public void execution_plan_description_factory_should_allow_execution_plan_assertions() {
+    Object value = mock(ExecutionPlanDescription.class);
+    given(((ExecutionPlanDescription) value).getName()).willReturn("ProduceResults");
+
+    ExecutionPlanAssert result = assertThat(value).asInstanceOf(EXECUTION_PLAN_DESCRIPTION);
+
+    result.hasMaxDepth(1);
+  }
+
+  @Test
+  public void graph_database_service_factory_should_allow_graph_database_service_assertions() {
+    Object value = mock(GraphDatabaseService.class);
+
+    GraphDatabaseServiceAssert result = assertThat(value).asInstanceOf(GRAPH_DATABASE_SERVICE);
+
+    result.isNotNull();
+  }
+
+  @Test
+  public void graph_changes_factory_should_allow_graph_changes_assertions() {
+    Object value = GraphChanges.recordOn(mock(GraphDatabaseService.class));
+
+    GraphChangesAssert result = assertThat(value).asInstanceOf(GRAPH_CHANGES);
+
+    result.hasNoChanges();
+  }
+
+  @Test
+  public void schema_factory_should_allow_schema_assertions() {
+    Schema schema = mock(Schema.class);
+    given(schema.getIndexes()).willReturn(Collections.emptyList());
+    given(schema.getConstraints()).willReturn(Collections.emptyList());
+    Object value = schema;
+
+    SchemaAssert result = assertThat(value).asInstanceOf(SCHEMA);
+
+    result.matches(ExpectedSchema.empty());
+  }
+
 }
@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.executedqueries;
+
+import org.assertj.neo4j.api.ExecutedQueriesAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+
+import java.util.Collections;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.assertj.neo4j.api.Assertions.countingQueries;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+
+public class ExecutedQueriesAssert_executedAtMost_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final GraphDatabaseService graph = countingQueries(mock(GraphDatabaseService.class));
+
+  @Test
+  public void should_pass_if_code_executed_at_most_max_queries() {
+    Assert.assertThat(assertThat(graph).whileRunning(this::loadDoughnuts).executedAtMost(4).queries(),
+                      instanceOf(ExecutedQueriesAssert.class));
+  }
+
+  @Test
+  public void should_pass_if_code_executed_no_query() {
+    assertThat(graph).whileRunning(() -> {
+    }).executedAtMost(0).queries();
+  }
+
+  @Test
+  public void should_fail_if_max_queries_is_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(graph).whileRunning(this::loadDoughnuts).executedAtMost(-1);
+  }
+
+  @Test
+  public void should_fail_if_code_executed_more_queries() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting code to execute at most:\n  <3>\nqueries but executed:\n  <4>\n");
+    expectedException.expectMessage("by query:\n  3 x ");
+    expectedException.expectMessage("  MATCH (t:TOPPING {id: {id}}) RETURN t\n  1 x ");
+    expectedException.expectMessage("  MATCH (d:DOUGHNUT) RETURN d");
+
+    assertThat(graph).whileRunning(this::loadDoughnuts).executedAtMost(3).queries();
+  }
+
+  private void loadDoughnuts() {
+    graph.execute("MATCH (d:DOUGHNUT) RETURN d");
+    for (int id = 0; id < 3; id++) {
+      graph.execute("MATCH (t:TOPPING {id: {id}}) RETURN t", Collections.singletonMap("id", id));
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.executionplan;
+
+import org.assertj.neo4j.api.ExecutionPlanAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.ExecutionPlanDescription;
+
+import java.util.Arrays;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ExecutionPlanAssert_doesNotUseOperator_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final ExecutionPlanDescription plan = plan("ProduceResults",
+                                                     plan("CartesianProduct",
+                                                          plan("NodeByLabelScan"),
+                                                          plan("Eager",
+                                                               plan("AllNodesScan"))));
+
+  @Test
+  public void should_pass_if_plan_does_not_use_operators() {
+    Assert.assertThat(assertThat(plan).doesNotUseOperator("NodeIndexSeek", "Expand(All)"),
+                      instanceOf(ExecutionPlanAssert.class));
+  }
+
+  @Test
+  public void should_pass_if_no_operator_is_given() {
+    assertThat(plan).doesNotUseOperator();
+  }
+
+  @Test
+  public void should_fail_if_operator_names_are_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(plan).doesNotUseOperator((String[]) null);
+  }
+
+  @Test
+  public void should_fail_if_plan_is_null() {
+    expectedException.expect(AssertionError.class);
+
+    assertThat((ExecutionPlanDescription) null).doesNotUseOperator("Eager");
+  }
+
+  @Test
+  public void should_fail_if_plan_uses_operators() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting execution plan not to use any of these operators:\n" +
+                                    "  <[\"AllNodesScan\", \"Eager\", \"NodeIndexSeek\", \"CartesianProduct\"]>\n" +
+                                    "but used:\n  <[\"AllNodesScan\", \"Eager\", \"CartesianProduct\"]>");
+
+    assertThat(plan).doesNotUseOperator("AllNodesScan", "Eager", "NodeIndexSeek", "CartesianProduct");
+  }
+
+  private static ExecutionPlanDescription plan(String name, ExecutionPlanDescription... children) {
+    ExecutionPlanDescription plan = mock(ExecutionPlanDescription.class);
+    when(plan.getName()).thenReturn(name);
+    when(plan.getChildren()).thenReturn(Arrays.asList(children));
+    return plan;
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.executionplan;
+
+import org.assertj.neo4j.api.ExecutionPlanAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.ExecutionPlanDescription;
+
+import java.util.Arrays;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ExecutionPlanAssert_hasMaxDepth_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final ExecutionPlanDescription plan = plan("ProduceResults",
+                                                     plan("CartesianProduct",
+                                                          plan("NodeByLabelScan"),
+                                                          plan("Filter",
+                                                               plan("AllNodesScan"))));
+
+  @Test
+  public void should_pass_if_plan_is_as_deep_as_maximum() {
+    Assert.assertThat(assertThat(plan).hasMaxDepth(4), instanceOf(ExecutionPlanAssert.class));
+  }
+
+  @Test
+  public void should_pass_if_single_operator_plan_is_one_level_deep() {
+    assertThat(plan("ProduceResults")).hasMaxDepth(1);
+  }
+
+  @Test
+  public void should_fail_if_maximum_is_not_strictly_positive() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(plan).hasMaxDepth(0);
+  }
+
+  @Test
+  public void should_fail_if_plan_is_deeper_than_maximum() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting execution plan to be at most:\n  <3>\nlevels deep but was:\n  <4>");
+
+    assertThat(plan).hasMaxDepth(3);
+  }
+
+  private static ExecutionPlanDescription plan(String name, ExecutionPlanDescription... children) {
+    ExecutionPlanDescription plan = mock(ExecutionPlanDescription.class);
+    when(plan.getName()).thenReturn(name);
+    when(plan.getChildren()).thenReturn(Arrays.asList(children));
+    return plan;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.executionplan;
+
+import org.assertj.neo4j.api.ExecutionPlanAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.ExecutionPlanDescription;
+import org.neo4j.graphdb.ExecutionPlanDescription.ProfilerStatistics;
+import org.neo4j.graphdb.Result;
+
+import java.util.Arrays;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ExecutionPlanAssert_hasOperatorRowsAtMost_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final ExecutionPlanDescription plan = plan("ProduceResults", 0, 2,
+                                                     plan("Expand(All)", 4, 2,
+                                                          plan("Expand(All)", 3, 4,
+                                                               plan("NodeByLabelScan", 20, 19))));
+
+  @Test
+  public void should_pass_if_operator_rows_are_under_maximum() {
+    Assert.assertThat(assertThat(result(plan)).executionPlan().hasOperatorRowsAtMost("Expand(All)", 6),
+                      instanceOf(ExecutionPlanAssert.class));
+  }
+
+  @Test
+  public void should_pass_if_operator_is_not_in_plan() {
+    assertThat(result(plan)).executionPlan().hasOperatorRowsAtMost("AllNodesScan", 0);
+  }
+
+  @Test
+  public void should_fail_if_operator_name_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(result(plan)).executionPlan().hasOperatorRowsAtMost(null, 6);
+  }
+
+  @Test
+  public void should_fail_if_maximum_is_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(result(plan)).executionPlan().hasOperatorRowsAtMost("Expand(All)", -1);
+  }
+
+  @Test
+  public void should_fail_if_operator_rows_are_over_maximum() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("to produce at most:\n  <18L>\nrows but produced:\n  <19L>");
+
+    assertThat(result(plan)).executionPlan().hasOperatorRowsAtMost("NodeByLabelScan", 18);
+  }
+
+  @Test
+  public void should_fail_if_plan_is_not_profiled() {
+    expectedException.expect(IllegalStateException.class);
+
+    ExecutionPlanDescription plan = mock(ExecutionPlanDescription.class);
+    when(plan.getName()).thenReturn("ProduceResults");
+
+    assertThat(result(plan)).executionPlan().hasOperatorRowsAtMost("Expand(All)", 10);
+  }
+
+  private static Result result(ExecutionPlanDescription plan) {
+    Result result = mock(Result.class);
+    when(result.getExecutionPlanDescription()).thenReturn(plan);
+    return result;
+  }
+
+  private static ExecutionPlanDescription plan(String name, long dbHits, long rows,
+                                               ExecutionPlanDescription... children) {
+    ProfilerStatistics statistics = mock(ProfilerStatistics.class);
+    when(statistics.getDbHits()).thenReturn(dbHits);
+    when(statistics.getRows()).thenReturn(rows);
+    ExecutionPlanDescription plan = mock(ExecutionPlanDescription.class);
+    when(plan.getName()).thenReturn(name);
+    when(plan.hasProfilerStatistics()).thenReturn(true);
+    when(plan.getProfilerStatistics()).thenReturn(statistics);
+    when(plan.getChildren()).thenReturn(Arrays.asList(children));
+    return plan;
+  }
+}
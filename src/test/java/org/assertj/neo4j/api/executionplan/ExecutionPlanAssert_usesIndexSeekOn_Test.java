@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.executionplan;
+
+import org.assertj.neo4j.api.ExecutionPlanAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.ExecutionPlanDescription;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ExecutionPlanAssert_usesIndexSeekOn_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final ExecutionPlanDescription plan = plan("ProduceResults", Collections.emptyMap(),
+                                                     plan("Filter", arguments(":DOUGHNUT(glazed)"),
+                                                          plan("NodeUniqueIndexSeek", arguments(":DOUGHNUT(flavour)"))));
+
+  @Test
+  public void should_pass_if_plan_seeks_index() {
+    Assert.assertThat(assertThat(plan).usesIndexSeekOn("DOUGHNUT", "flavour"), instanceOf(ExecutionPlanAssert.class));
+  }
+
+  @Test
+  public void should_fail_if_label_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(plan).usesIndexSeekOn(null, "flavour");
+  }
+
+  @Test
+  public void should_fail_if_property_key_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(plan).usesIndexSeekOn("DOUGHNUT", null);
+  }
+
+  @Test
+  public void should_fail_if_index_is_only_mentioned_by_other_operators() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting execution plan to seek index:\n  <\":DOUGHNUT(glazed)\">\n" +
+                                    "but only used operators:\n" +
+                                    "  <[\"ProduceResults\", \"Filter\", \"NodeUniqueIndexSeek\"]>");
+
+    assertThat(plan).usesIndexSeekOn("DOUGHNUT", "glazed");
+  }
+
+  @Test
+  public void should_fail_if_plan_seeks_index_of_other_label() {
+    expectedException.expect(AssertionError.class);
+
+    assertThat(plan).usesIndexSeekOn("PASTRY", "flavour");
+  }
+
+  private static Map<String, Object> arguments(String index) {
+    Map<String, Object> arguments = new LinkedHashMap<>();
+    arguments.put("EstimatedRows", 1.0);
+    arguments.put("Index", index);
+    return arguments;
+  }
+
+  private static ExecutionPlanDescription plan(String name, Map<String, Object> arguments,
+                                               ExecutionPlanDescription... children) {
+    ExecutionPlanDescription plan = mock(ExecutionPlanDescription.class);
+    when(plan.getName()).thenReturn(name);
+    when(plan.getArguments()).thenReturn(arguments);
+    when(plan.getChildren()).thenReturn(Arrays.asList(children));
+    return plan;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphchanges;
+
+import org.assertj.neo4j.api.GraphChanges;
+import org.assertj.neo4j.api.GraphChangesAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.event.TransactionData;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.assertj.neo4j.api.graphchanges.RecordedTransactions.node;
+import static org.assertj.neo4j.api.graphchanges.RecordedTransactions.transaction;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.when;
+
+public class GraphChangesAssert_hasCreatedNodes_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final RecordedTransactions transactions = new RecordedTransactions();
+
+  @Test
+  public void should_pass_if_committed_transactions_have_created_nodes() throws Exception {
+    GraphChanges changes = transactions.record();
+    List<Node> firstNodes = Arrays.asList(node(1), node(2));
+    List<Node> secondNodes = Collections.singletonList(node(3));
+    TransactionData first = transaction();
+    when(first.createdNodes()).thenReturn(firstNodes);
+    TransactionData second = transaction();
+    when(second.createdNodes()).thenReturn(secondNodes);
+
+    transactions.commit(first);
+    transactions.commit(second);
+
+    Assert.assertThat(assertThat(changes).hasCreatedNodes(3), instanceOf(GraphChangesAssert.class));
+  }
+
+  @Test
+  public void should_pass_if_rolled_back_transactions_are_ignored() throws Exception {
+    GraphChanges changes = transactions.record();
+    Node node = node(1);
+    TransactionData data = transaction();
+    when(data.createdNodes()).thenReturn(Collections.singletonList(node));
+
+    transactions.rollback(data);
+
+    assertThat(changes).hasCreatedNodes(0);
+  }
+
+  @Test
+  public void should_fail_if_node_count_is_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(transactions.record()).hasCreatedNodes(-1);
+  }
+
+  @Test
+  public void should_fail_if_changes_are_null() {
+    expectedException.expect(AssertionError.class);
+
+    assertThat((GraphChanges) null).hasCreatedNodes(1);
+  }
+
+  @Test
+  public void should_fail_if_committed_transactions_have_created_a_different_number_of_nodes() throws Exception {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting transactions to have created:\n  <3L>\nnodes but created:\n  <1L>");
+    GraphChanges changes = transactions.record();
+    Node node = node(1);
+    TransactionData data = transaction();
+    when(data.createdNodes()).thenReturn(Collections.singletonList(node));
+    transactions.commit(data);
+
+    assertThat(changes).hasCreatedNodes(3);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphchanges;
+
+import org.assertj.neo4j.api.GraphChanges;
+import org.assertj.neo4j.api.GraphChangesAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.event.TransactionData;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.assertj.neo4j.api.graphchanges.RecordedTransactions.node;
+import static org.assertj.neo4j.api.graphchanges.RecordedTransactions.relationship;
+import static org.assertj.neo4j.api.graphchanges.RecordedTransactions.transaction;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.when;
+
+public class GraphChangesAssert_hasDeletedRelationships_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final RecordedTransactions transactions = new RecordedTransactions();
+
+  private final Node start = node(1, "DOUGHNUT");
+
+  private final Node end = node(2, "BAKERY");
+
+  @Test
+  public void should_pass_if_committed_transactions_have_deleted_relationships() throws Exception {
+    GraphChanges changes = transactions.record();
+    List<Relationship> relationships = Arrays.asList(relationship(10, start, end), relationship(11, end, start));
+    TransactionData data = transaction();
+    when(data.deletedRelationships()).thenReturn(relationships);
+
+    transactions.commit(data);
+
+    Assert.assertThat(assertThat(changes).hasDeletedRelationships(2), instanceOf(GraphChangesAssert.class));
+  }
+
+  @Test
+  public void should_fail_if_relationship_count_is_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(transactions.record()).hasDeletedRelationships(-1);
+  }
+
+  @Test
+  public void should_fail_if_changes_are_null() {
+    expectedException.expect(AssertionError.class);
+
+    assertThat((GraphChanges) null).hasDeletedRelationships(1);
+  }
+
+  @Test
+  public void should_fail_if_committed_transactions_have_deleted_a_different_number_of_relationships()
+      throws Exception {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting transactions to have deleted:\n  <2L>\nrelationships but deleted:\n" +
+                                    "  <1L>");
+    GraphChanges changes = transactions.record();
+    Relationship relationship = relationship(10, start, end);
+    TransactionData data = transaction();
+    when(data.deletedRelationships()).thenReturn(Collections.singletonList(relationship));
+    transactions.commit(data);
+
+    assertThat(changes).hasDeletedRelationships(2);
+  }
+}
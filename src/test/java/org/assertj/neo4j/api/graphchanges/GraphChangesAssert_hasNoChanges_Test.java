@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphchanges;
+
+import org.assertj.neo4j.api.GraphChanges;
+import org.assertj.neo4j.api.GraphChangesAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.event.LabelEntry;
+import org.neo4j.graphdb.event.TransactionData;
+
+import java.util.Collections;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.assertj.neo4j.api.graphchanges.RecordedTransactions.labelEntry;
+import static org.assertj.neo4j.api.graphchanges.RecordedTransactions.node;
+import static org.assertj.neo4j.api.graphchanges.RecordedTransactions.transaction;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.when;
+
+public class GraphChangesAssert_hasNoChanges_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final RecordedTransactions transactions = new RecordedTransactions();
+
+  @Test
+  public void should_pass_if_committed_transactions_have_not_changed_anything() throws Exception {
+    GraphChanges changes = transactions.record();
+
+    transactions.commit(transaction());
+
+    Assert.assertThat(assertThat(changes).hasNoChanges(), instanceOf(GraphChangesAssert.class));
+  }
+
+  @Test
+  public void should_pass_if_only_rolled_back_transactions_have_changed_something() throws Exception {
+    GraphChanges changes = transactions.record();
+    Node node = node(1);
+    TransactionData data = transaction();
+    when(data.createdNodes()).thenReturn(Collections.singletonList(node));
+
+    transactions.rollback(data);
+
+    assertThat(changes).hasNoChanges();
+  }
+
+  @Test
+  public void should_fail_if_changes_are_null() {
+    expectedException.expect(AssertionError.class);
+
+    assertThat((GraphChanges) null).hasNoChanges();
+  }
+
+  @Test
+  public void should_fail_if_committed_transactions_have_changed_something() throws Exception {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting transactions not to change anything but changed:\n" +
+                                    "  <GraphChanges[createdNodes=0, deletedNodes=0, createdRelationships=0, " +
+                                    "deletedRelationships=0, touchedNodes=1, touchedRelationships=0]>");
+    GraphChanges changes = transactions.record();
+    LabelEntry label = labelEntry(node(1), "DOUGHNUT");
+    TransactionData data = transaction();
+    when(data.removedLabels()).thenReturn(Collections.singletonList(label));
+    transactions.commit(data);
+
+    assertThat(changes).hasNoChanges();
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphchanges;
+
+import org.assertj.neo4j.api.GraphChanges;
+import org.assertj.neo4j.api.GraphChangesAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.event.LabelEntry;
+import org.neo4j.graphdb.event.PropertyEntry;
+import org.neo4j.graphdb.event.TransactionData;
+
+import java.util.Collections;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.assertj.neo4j.api.graphchanges.RecordedTransactions.labelEntry;
+import static org.assertj.neo4j.api.graphchanges.RecordedTransactions.node;
+import static org.assertj.neo4j.api.graphchanges.RecordedTransactions.relationship;
+import static org.assertj.neo4j.api.graphchanges.RecordedTransactions.transaction;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GraphChangesAssert_hasNotTouchedLabel_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final RecordedTransactions transactions = new RecordedTransactions();
+
+  @Test
+  public void should_pass_if_committed_transactions_have_not_touched_label() throws Exception {
+    GraphChanges changes = transactions.record();
+    Node node = node(1, "BAKERY");
+    LabelEntry label = labelEntry(node, "BAKERY");
+    PropertyEntry<Node> property = propertyEntry(node);
+    TransactionData data = transaction();
+    when(data.assignedLabels()).thenReturn(Collections.singletonList(label));
+    when(data.assignedNodeProperties()).thenReturn(Collections.singletonList(property));
+
+    transactions.commit(data);
+
+    Assert.assertThat(assertThat(changes).hasNotTouchedLabel("DOUGHNUT"), instanceOf(GraphChangesAssert.class));
+  }
+
+  @Test
+  public void should_pass_if_label_has_only_been_touched_by_rolled_back_transactions() throws Exception {
+    GraphChanges changes = transactions.record();
+    LabelEntry label = labelEntry(node(1), "DOUGHNUT");
+    TransactionData data = transaction();
+    when(data.assignedLabels()).thenReturn(Collections.singletonList(label));
+
+    transactions.rollback(data);
+
+    assertThat(changes).hasNotTouchedLabel("DOUGHNUT");
+  }
+
+  @Test
+  public void should_fail_if_label_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The label to look for should not be null");
+
+    assertThat(transactions.record()).hasNotTouchedLabel(null);
+  }
+
+  @Test
+  public void should_fail_if_changes_are_null() {
+    expectedException.expect(AssertionError.class);
+
+    assertThat((GraphChanges) null).hasNotTouchedLabel("DOUGHNUT");
+  }
+
+  @Test
+  public void should_fail_if_label_has_been_assigned() throws Exception {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting transactions not to touch nodes with label:\n  <\"DOUGHNUT\">\n" +
+                                    "but touched nodes:\n  <[3L]>");
+    GraphChanges changes = transactions.record();
+    LabelEntry label = labelEntry(node(3), "DOUGHNUT");
+    TransactionData data = transaction();
+    when(data.assignedLabels()).thenReturn(Collections.singletonList(label));
+    transactions.commit(data);
+
+    assertThat(changes).hasNotTouchedLabel("DOUGHNUT");
+  }
+
+  @Test
+  public void should_fail_if_properties_of_labeled_nodes_have_changed() throws Exception {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but touched nodes:\n  <[1L, 2L]>");
+    GraphChanges changes = transactions.record();
+    PropertyEntry<Node> assigned = propertyEntry(node(2, "DOUGHNUT"));
+    PropertyEntry<Node> removed = propertyEntry(node(1, "DOUGHNUT"));
+    TransactionData data = transaction();
+    when(data.assignedNodeProperties()).thenReturn(Collections.singletonList(assigned));
+    when(data.removedNodeProperties()).thenReturn(Collections.singletonList(removed));
+    transactions.commit(data);
+
+    assertThat(changes).hasNotTouchedLabel("DOUGHNUT");
+  }
+
+  @Test
+  public void should_fail_if_relationships_have_been_created_from_labeled_nodes() throws Exception {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but touched nodes:\n  <[4L]>");
+    GraphChanges changes = transactions.record();
+    Relationship relationship = relationship(10, node(4, "DOUGHNUT"), node(5, "BAKERY"));
+    TransactionData data = transaction();
+    when(data.createdRelationships()).thenReturn(Collections.singletonList(relationship));
+    transactions.commit(data);
+
+    assertThat(changes).hasNotTouchedLabel("DOUGHNUT");
+  }
+
+  @Test
+  public void should_fail_if_relationships_of_labeled_nodes_have_been_deleted() throws Exception {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but touched nodes:\n  <[7L]>");
+    GraphChanges changes = transactions.record();
+    Relationship relationship = relationship(11, node(6, "BAKERY"), node(7, "DOUGHNUT"));
+    TransactionData data = transaction();
+    when(data.deletedRelationships()).thenReturn(Collections.singletonList(relationship));
+    transactions.commit(data);
+
+    assertThat(changes).hasNotTouchedLabel("DOUGHNUT");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static PropertyEntry<Node> propertyEntry(Node node) {
+    PropertyEntry<Node> entry = mock(PropertyEntry.class);
+    when(entry.entity()).thenReturn(node);
+    return entry;
+  }
+}
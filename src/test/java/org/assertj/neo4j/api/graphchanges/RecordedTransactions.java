@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphchanges;
+
+import org.assertj.neo4j.api.GraphChanges;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.event.LabelEntry;
+import org.neo4j.graphdb.event.TransactionData;
+import org.neo4j.graphdb.event.TransactionEventHandler;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Replays mocked transactions against the handler registered by {@link GraphChanges#recordOn(GraphDatabaseService)}.
+ */
+class RecordedTransactions {
+
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+
+  private TransactionEventHandler<Object> handler;
+
+  RecordedTransactions() {
+    when(graph.registerTransactionEventHandler(any())).thenAnswer(invocation -> {
+      handler = invocation.getArgument(0);
+      return handler;
+    });
+  }
+
+  GraphChanges record() {
+    return GraphChanges.recordOn(graph);
+  }
+
+  void commit(TransactionData data) throws Exception {
+    Object state = handler.beforeCommit(data);
+    handler.afterCommit(data, state);
+  }
+
+  void rollback(TransactionData data) throws Exception {
+    Object state = handler.beforeCommit(data);
+    handler.afterRollback(data, state);
+  }
+
+  static TransactionData transaction() {
+    TransactionData data = mock(TransactionData.class);
+    when(data.createdNodes()).thenReturn(Collections.emptyList());
+    when(data.deletedNodes()).thenReturn(Collections.emptyList());
+    when(data.assignedLabels()).thenReturn(Collections.emptyList());
+    when(data.removedLabels()).thenReturn(Collections.emptyList());
+    when(data.assignedNodeProperties()).thenReturn(Collections.emptyList());
+    when(data.removedNodeProperties()).thenReturn(Collections.emptyList());
+    when(data.createdRelationships()).thenReturn(Collections.emptyList());
+    when(data.deletedRelationships()).thenReturn(Collections.emptyList());
+    when(data.assignedRelationshipProperties()).thenReturn(Collections.emptyList());
+    when(data.removedRelationshipProperties()).thenReturn(Collections.emptyList());
+    return data;
+  }
+
+  static Node node(long id, String... labels) {
+    Node node = mock(Node.class);
+    when(node.getId()).thenReturn(id);
+    when(node.getLabels()).thenReturn(Arrays.asList(Arrays.stream(labels).map(Label::label).toArray(Label[]::new)));
+    return node;
+  }
+
+  static Relationship relationship(long id, Node start, Node end) {
+    Relationship relationship = mock(Relationship.class);
+    when(relationship.getId()).thenReturn(id);
+    when(relationship.getStartNode()).thenReturn(start);
+    when(relationship.getEndNode()).thenReturn(end);
+    return relationship;
+  }
+
+  static LabelEntry labelEntry(Node node, String label) {
+    LabelEntry entry = mock(LabelEntry.class);
+    when(entry.node()).thenReturn(node);
+    when(entry.label()).thenReturn(Label.label(label));
+    return entry;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphdatabase;
+
+import org.assertj.neo4j.api.GraphDatabaseServiceAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Result;
+
+import java.util.Collections;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GraphDatabaseServiceAssert_hasNodeCount_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+
+  @Test
+  public void should_pass_if_graph_has_node_count() {
+    Result result = count(graph, "MATCH (n) RETURN count(n) AS count", 200L);
+
+    Assert.assertThat(assertThat(graph).hasNodeCount(200), instanceOf(GraphDatabaseServiceAssert.class));
+    verify(result).close();
+  }
+
+  @Test
+  public void should_pass_if_graph_has_labeled_node_count() {
+    count(graph, "MATCH (n:`DOUGHNUT`) RETURN count(n) AS count", 42L);
+
+    assertThat(graph).hasNodeCount("DOUGHNUT", 42);
+  }
+
+  @Test
+  public void should_escape_label() {
+    count(graph, "MATCH (n:`GLAZED``DOUGHNUT`) RETURN count(n) AS count", 42L);
+
+    assertThat(graph).hasNodeCount("GLAZED`DOUGHNUT", 42);
+  }
+
+  @Test
+  public void should_fail_if_node_count_is_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(graph).hasNodeCount("DOUGHNUT", -1);
+  }
+
+  @Test
+  public void should_fail_if_graph_is_null() {
+    expectedException.expect(AssertionError.class);
+
+    assertThat((GraphDatabaseService) null).hasNodeCount("DOUGHNUT", 42);
+  }
+
+  @Test
+  public void should_fail_if_graph_has_different_labeled_node_count() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting graph database to have:\n  <42L>\nnodes matching:\n" +
+                                    "  <\"(n:`DOUGHNUT`)\">\nbut had:\n  <41L>");
+    count(graph, "MATCH (n:`DOUGHNUT`) RETURN count(n) AS count", 41L);
+
+    assertThat(graph).hasNodeCount("DOUGHNUT", 42);
+  }
+
+  private static Result count(GraphDatabaseService graph, String query, long count) {
+    Result result = mock(Result.class);
+    when(result.next()).thenReturn(Collections.singletonMap("count", count));
+    when(graph.execute(query)).thenReturn(result);
+    return result;
+  }
+}
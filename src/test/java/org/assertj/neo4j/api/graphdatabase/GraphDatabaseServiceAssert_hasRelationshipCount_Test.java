@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphdatabase;
+
+import org.assertj.neo4j.api.GraphDatabaseServiceAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Result;
+
+import java.util.Collections;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GraphDatabaseServiceAssert_hasRelationshipCount_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+
+  @Test
+  public void should_pass_if_graph_has_relationship_count_by_start_label() {
+    count(graph, "MATCH (:`DOUGHNUT`)-[r:`TOPPED_WITH`]->() RETURN count(r) AS count", 200L);
+
+    Assert.assertThat(assertThat(graph).hasRelationshipCount("DOUGHNUT", "TOPPED_WITH", null, 200),
+                      instanceOf(GraphDatabaseServiceAssert.class));
+  }
+
+  @Test
+  public void should_pass_if_graph_has_relationship_count_by_end_label() {
+    count(graph, "MATCH ()-[r:`TOPPED_WITH`]->(:`TOPPING`) RETURN count(r) AS count", 200L);
+
+    assertThat(graph).hasRelationshipCount(null, "TOPPED_WITH", "TOPPING", 200);
+  }
+
+  @Test
+  public void should_pass_if_graph_has_relationship_count_of_any_type() {
+    count(graph, "MATCH ()-[r]->() RETURN count(r) AS count", 12L);
+
+    assertThat(graph).hasRelationshipCount(null, null, null, 12);
+  }
+
+  @Test
+  public void should_fail_if_both_labels_are_given() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(graph).hasRelationshipCount("DOUGHNUT", "TOPPED_WITH", "TOPPING", 200);
+  }
+
+  @Test
+  public void should_fail_if_relationship_count_is_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(graph).hasRelationshipCount(null, "TOPPED_WITH", null, -1);
+  }
+
+  @Test
+  public void should_fail_if_graph_has_different_relationship_count() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting graph database to have:\n  <200L>\nrelationships matching:\n" +
+                                    "  <\"(:`DOUGHNUT`)-[r:`TOPPED_WITH`]->()\">\nbut had:\n  <199L>");
+    count(graph, "MATCH (:`DOUGHNUT`)-[r:`TOPPED_WITH`]->() RETURN count(r) AS count", 199L);
+
+    assertThat(graph).hasRelationshipCount("DOUGHNUT", "TOPPED_WITH", null, 200);
+  }
+
+  private static void count(GraphDatabaseService graph, String query, long count) {
+    Result result = mock(Result.class);
+    when(result.next()).thenReturn(Collections.singletonMap("count", count));
+    when(graph.execute(query)).thenReturn(result);
+  }
+}
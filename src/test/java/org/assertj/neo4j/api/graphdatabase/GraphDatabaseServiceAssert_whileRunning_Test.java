@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphdatabase;
+
+import org.assertj.neo4j.api.ExecutedQueriesAssert;
+import org.assertj.neo4j.api.ExecutedQueries;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.assertj.neo4j.api.Assertions.countingQueries;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class GraphDatabaseServiceAssert_whileRunning_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final GraphDatabaseService graph = countingQueries(mock(GraphDatabaseService.class));
+
+  @Test
+  public void should_record_queries_executed_by_code() {
+    graph.execute("MATCH (n) RETURN n");
+
+    ExecutedQueriesAssert executedQueries = assertThat(graph).whileRunning(() -> {
+      graph.execute("MATCH (d:DOUGHNUT) RETURN d");
+      graph.execute("MATCH (t:TOPPING {id: {id}}) RETURN t", Collections.singletonMap("id", 1));
+      graph.execute("MATCH (t:TOPPING {id: {id}}) RETURN t", Collections.singletonMap("id", 2));
+    });
+
+    Assert.assertThat(executedQueries, instanceOf(ExecutedQueriesAssert.class));
+    ExecutedQueries queries = executedQueries.getActual();
+    assertEquals(3, queries.count());
+    assertEquals(1, queries.count("MATCH (d:DOUGHNUT) RETURN d"));
+    assertEquals(2, queries.count("MATCH (t:TOPPING {id: {id}}) RETURN t"));
+    assertEquals(0, queries.count("MATCH (n) RETURN n"));
+  }
+
+  @Test
+  public void should_not_record_queries_of_other_threads() throws InterruptedException {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    ExecutedQueries queries = assertThat(graph).whileRunning(() -> {
+      executor.submit(() -> graph.execute("MATCH (n) RETURN n"));
+      graph.execute("MATCH (d:DOUGHNUT) RETURN d");
+      executor.shutdown();
+      try {
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }).getActual();
+
+    assertEquals(1, queries.count());
+  }
+
+  @Test
+  public void should_add_queries_of_nested_code_to_enclosing_code() {
+    ExecutedQueries queries = assertThat(graph).whileRunning(() -> {
+      graph.execute("MATCH (d:DOUGHNUT) RETURN d");
+      assertThat(graph).whileRunning(() -> graph.execute("MATCH (t:TOPPING) RETURN t"));
+    }).getActual();
+
+    assertEquals(2, queries.count());
+  }
+
+  @Test
+  public void should_fail_if_code_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(graph).whileRunning(null);
+  }
+
+  @Test
+  public void should_fail_if_graph_does_not_count_queries() {
+    expectedException.expect(IllegalStateException.class);
+
+    assertThat(mock(GraphDatabaseService.class)).whileRunning(() -> {
+    });
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphdatabase;
+
+import org.assertj.neo4j.api.NodesWithLabelAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.ResourceIterator;
+import org.neo4j.graphdb.Transaction;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NodesWithLabelAssert_allHavePropertyKey_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+
+  @Test
+  public void should_pass_if_all_nodes_have_property_key() {
+    given_nodes(account(1, true), account(2, true), account(3, true));
+
+    Assert.assertThat(assertThat(graph).nodesWithLabel("ACCOUNT").allHavePropertyKey("iban"),
+                      instanceOf(NodesWithLabelAssert.class));
+  }
+
+  @Test
+  public void should_pass_if_there_are_no_nodes() {
+    given_nodes();
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").allHavePropertyKey("iban");
+  }
+
+  @Test
+  public void should_fail_if_label_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(graph).nodesWithLabel(null);
+  }
+
+  @Test
+  public void should_fail_if_key_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").allHavePropertyKey(null);
+  }
+
+  @Test
+  public void should_fail_if_max_failures_is_not_strictly_positive() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").withMaxFailures(0);
+  }
+
+  @Test
+  public void should_fail_if_pool_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").usingPool(null);
+  }
+
+  @Test
+  public void should_fail_on_first_node_without_property_key() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting all nodes with label:\n  <\"ACCOUNT\">\nto have property key:\n" +
+                                    "  <\"iban\">\nbut these nodes did not:\n  <[2L]>");
+    given_nodes(account(1, true), account(2, false), account(3, true));
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").usingPool(new ForkJoinPool(1)).allHavePropertyKey("iban");
+  }
+
+  @Test
+  public void should_collect_up_to_max_failures() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but these nodes did not:\n  <[1L, 3L, 4L]>");
+    given_nodes(account(1, false), account(2, true), account(3, false), account(4, false), account(5, false));
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").usingPool(new ForkJoinPool(1)).withMaxFailures(3)
+                     .allHavePropertyKey("iban");
+  }
+
+  private static Node account(long id, boolean hasIban) {
+    Node node = node(id);
+    when(node.hasProperty("iban")).thenReturn(hasIban);
+    return node;
+  }
+
+  private void given_nodes(Node... nodes) {
+    when(graph.beginTx()).thenReturn(mock(Transaction.class));
+    when(graph.findNodes(Label.label("ACCOUNT"))).thenReturn(iterator(Arrays.asList(nodes).iterator()));
+    for (Node node : nodes) {
+      when(graph.getNodeById(node.getId())).thenReturn(node);
+    }
+  }
+
+  private static Node node(long id) {
+    Node node = mock(Node.class);
+    when(node.getId()).thenReturn(id);
+    return node;
+  }
+
+  private static ResourceIterator<Node> iterator(Iterator<Node> nodes) {
+    return new ResourceIterator<Node>() {
+      @Override
+      public boolean hasNext() {
+        return nodes.hasNext();
+      }
+
+      @Override
+      public Node next() {
+        return nodes.next();
+      }
+
+      @Override
+      public void close() {
+        // nothing to release
+      }
+    };
+  }
+}
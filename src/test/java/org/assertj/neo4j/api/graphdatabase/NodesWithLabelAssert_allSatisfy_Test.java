@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphdatabase;
+
+import org.assertj.neo4j.api.NodesWithLabelAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.ResourceIterator;
+import org.neo4j.graphdb.Transaction;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NodesWithLabelAssert_allSatisfy_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+
+  @Test
+  public void should_pass_if_all_nodes_satisfy_requirements() {
+    given_nodes(account(1, true), account(2, true));
+
+    Assert.assertThat(assertThat(graph).nodesWithLabel("ACCOUNT")
+                                       .allSatisfy(node -> assertThat(node).hasPropertyKey("iban")),
+                      instanceOf(NodesWithLabelAssert.class));
+  }
+
+  @Test
+  public void should_check_every_node_across_chunks() {
+    AtomicLong ids = new AtomicLong();
+    Node node = mock(Node.class);
+    when(node.getId()).thenAnswer(invocation -> ids.getAndIncrement());
+    when(graph.beginTx()).thenReturn(mock(Transaction.class));
+    when(graph.findNodes(Label.label("ACCOUNT")))
+      .thenReturn(iterator(LongStream.range(0, 25_001).mapToObj(id -> node).iterator()));
+    when(graph.getNodeById(anyLong())).thenReturn(node);
+    AtomicLong checkedNodes = new AtomicLong();
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").allSatisfy(account -> checkedNodes.incrementAndGet());
+
+    assertEquals(25_001, checkedNodes.get());
+    // one transaction to scan the label and one for each of the 3 chunks
+    verify(graph, times(4)).beginTx();
+  }
+
+  @Test
+  public void should_fail_if_requirements_are_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").allSatisfy(null);
+  }
+
+  @Test
+  public void should_fail_if_graph_is_null() {
+    expectedException.expect(AssertionError.class);
+
+    assertThat((GraphDatabaseService) null).nodesWithLabel("ACCOUNT");
+  }
+
+  @Test
+  public void should_fail_if_one_node_does_not_satisfy_requirements() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting all nodes with label:\n  <\"ACCOUNT\">\n" +
+                                    "to satisfy the given requirements but these nodes did not:\n  <{2L=");
+    given_nodes(account(1, true), account(2, false), account(3, true));
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").usingPool(new ForkJoinPool(1))
+                     .allSatisfy(node -> assertThat(node).hasPropertyKey("iban"));
+  }
+
+  private static Node account(long id, boolean hasIban) {
+    Node node = node(id);
+    when(node.hasProperty("iban")).thenReturn(hasIban);
+    return node;
+  }
+
+  private void given_nodes(Node... nodes) {
+    when(graph.beginTx()).thenReturn(mock(Transaction.class));
+    when(graph.findNodes(Label.label("ACCOUNT"))).thenReturn(iterator(Arrays.asList(nodes).iterator()));
+    for (Node node : nodes) {
+      when(graph.getNodeById(node.getId())).thenReturn(node);
+    }
+  }
+
+  private static Node node(long id) {
+    Node node = mock(Node.class);
+    when(node.getId()).thenReturn(id);
+    return node;
+  }
+
+  private static ResourceIterator<Node> iterator(Iterator<Node> nodes) {
+    return new ResourceIterator<Node>() {
+      @Override
+      public boolean hasNext() {
+        return nodes.hasNext();
+      }
+
+      @Override
+      public Node next() {
+        return nodes.next();
+      }
+
+      @Override
+      public void close() {
+        // nothing to release
+      }
+    };
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphdatabase;
+
+import org.assertj.neo4j.api.NodesWithLabelAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.ResourceIterator;
+import org.neo4j.graphdb.Transaction;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NodesWithLabelAssert_haveUniqueValuesFor_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+
+  @Test
+  public void should_pass_if_all_nodes_have_unique_values() {
+    given_nodes(account(1, "bank", "BNP", "number", 1L),
+                account(2, "bank", "BNP", "number", 2L),
+                account(3, "bank", "SG", "number", 1L));
+
+    Assert.assertThat(assertThat(graph).nodesWithLabel("ACCOUNT").haveUniqueValuesFor("bank", "number"),
+                      instanceOf(NodesWithLabelAssert.class));
+  }
+
+  @Test
+  public void should_pass_if_there_are_no_nodes() {
+    given_nodes();
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").haveUniqueValuesFor("iban");
+  }
+
+  @Test
+  public void should_ignore_nodes_missing_a_key() {
+    given_nodes(account(1, "bank", "BNP"), account(2, "bank", "BNP"), account(3, "bank", "BNP", "number", 1L));
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").haveUniqueValuesFor("bank", "number");
+  }
+
+  @Test
+  public void should_fail_if_keys_are_empty() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The property keys to look for should not be empty");
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").haveUniqueValuesFor();
+  }
+
+  @Test
+  public void should_fail_if_a_key_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The property key to look for should not be null");
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").haveUniqueValuesFor("iban", null);
+  }
+
+  @Test
+  public void should_fail_if_a_key_is_repeated() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The property key to look for <iban> should not be repeated");
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").haveUniqueValuesFor("iban", "iban");
+  }
+
+  @Test
+  public void should_fail_reporting_nodes_sharing_values() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting all nodes with label:\n  <\"ACCOUNT\">\nto have unique values for:\n" +
+                                    "  <[\"iban\"]>\nbut found 1 groups of nodes sharing values, such as:\n" +
+                                    "  <{{\"iban\"=\"FR76\"}=[1L, 3L]}>");
+    given_nodes(account(1, "iban", "FR76"), account(2, "iban", "DE89"), account(3, "iban", "FR76"));
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").usingPool(new ForkJoinPool(2)).haveUniqueValuesFor("iban");
+  }
+
+  @Test
+  public void should_compare_array_values_by_content() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but found 1 groups of nodes sharing values");
+    given_nodes(account(1, "tags", new long[] {3L, 1L}), account(2, "tags", new long[] {3L, 1L}));
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").haveUniqueValuesFor("tags");
+  }
+
+  @Test
+  public void should_compare_numbers_by_value_whatever_their_type() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but found 1 groups of nodes sharing values, such as:\n" +
+                                    "  <{{\"bank\"=\"BNP\", \"number\"=1}=[1L, 2L, 3L]}>");
+    given_nodes(account(1, "bank", "BNP", "number", 1),
+                account(2, "bank", "BNP", "number", 1L),
+                account(3, "bank", "BNP", "number", 1.0),
+                account(4, "bank", "BNP", "number", 1.5));
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").haveUniqueValuesFor("bank", "number");
+  }
+
+  @Test
+  public void should_compare_numeric_array_elements_by_value() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but found 1 groups of nodes sharing values");
+    given_nodes(account(1, "tags", new int[] {3, 1}), account(2, "tags", new double[] {3.0, 1.0}),
+                account(3, "tags", new long[] {3L, 1L, 2L}));
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").haveUniqueValuesFor("tags");
+  }
+
+  @Test
+  public void should_report_up_to_max_failures_groups() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but found 3 groups of nodes sharing values, such as:\n" +
+                                    "  <{{\"iban\"=\"FR76\"}=[1L, 2L], {\"iban\"=\"DE89\"}=[3L, 4L]}>");
+    given_nodes(account(1, "iban", "FR76"), account(2, "iban", "FR76"), account(3, "iban", "DE89"),
+                account(4, "iban", "DE89"), account(5, "iban", "GB29"), account(6, "iban", "GB29"));
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").withMaxFailures(2).haveUniqueValuesFor("iban");
+  }
+
+  private static Node account(long id, Object... keysAndValues) {
+    Node node = mock(Node.class);
+    when(node.getId()).thenReturn(id);
+    Map<String, Object> properties = new LinkedHashMap<>();
+    for (int i = 0; i < keysAndValues.length; i += 2) {
+      properties.put((String) keysAndValues[i], keysAndValues[i + 1]);
+    }
+    when(node.getProperties("iban")).thenReturn(subMap(properties, "iban"));
+    when(node.getProperties("tags")).thenReturn(subMap(properties, "tags"));
+    when(node.getProperties("bank", "number")).thenReturn(subMap(properties, "bank", "number"));
+    return node;
+  }
+
+  private static Map<String, Object> subMap(Map<String, Object> properties, String... keys) {
+    Map<String, Object> subMap = new LinkedHashMap<>();
+    for (String key : keys) {
+      if (properties.containsKey(key)) {
+        subMap.put(key, properties.get(key));
+      }
+    }
+    return subMap;
+  }
+
+  private void given_nodes(Node... nodes) {
+    List<Node> accounts = Arrays.asList(nodes);
+    when(graph.beginTx()).thenReturn(mock(Transaction.class));
+    when(graph.findNodes(Label.label("ACCOUNT"))).thenAnswer(ignored -> iterator(accounts.iterator()));
+    for (Node node : nodes) {
+      when(graph.getNodeById(node.getId())).thenReturn(node);
+    }
+  }
+
+  private static ResourceIterator<Node> iterator(Iterator<Node> nodes) {
+    return new ResourceIterator<Node>() {
+      @Override
+      public boolean hasNext() {
+        return nodes.hasNext();
+      }
+
+      @Override
+      public Node next() {
+        return nodes.next();
+      }
+
+      @Override
+      public void close() {
+        // nothing to release
+      }
+    };
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphdatabase;
+
+import org.assertj.neo4j.api.NodesWithLabelAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.ResourceIterator;
+import org.neo4j.graphdb.Transaction;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NodesWithLabelAssert_noneHaveLabel_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+
+  @Test
+  public void should_pass_if_no_node_has_label() {
+    given_nodes(account(1, false), account(2, false));
+
+    Assert.assertThat(assertThat(graph).nodesWithLabel("ACCOUNT").noneHaveLabel("CLOSED_ACCOUNT"),
+                      instanceOf(NodesWithLabelAssert.class));
+  }
+
+  @Test
+  public void should_fail_if_label_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").noneHaveLabel(null);
+  }
+
+  @Test
+  public void should_fail_if_one_node_has_label() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting no node with label:\n  <\"ACCOUNT\">\nto have label:\n" +
+                                    "  <\"CLOSED_ACCOUNT\">\nbut these nodes did:\n  <[2L]>");
+    given_nodes(account(1, false), account(2, true), account(3, false));
+
+    assertThat(graph).nodesWithLabel("ACCOUNT").noneHaveLabel("CLOSED_ACCOUNT");
+  }
+
+  private static Node account(long id, boolean closed) {
+    Node node = node(id);
+    when(node.hasLabel(Label.label("CLOSED_ACCOUNT"))).thenReturn(closed);
+    return node;
+  }
+
+  private void given_nodes(Node... nodes) {
+    when(graph.beginTx()).thenReturn(mock(Transaction.class));
+    when(graph.findNodes(Label.label("ACCOUNT"))).thenReturn(iterator(Arrays.asList(nodes).iterator()));
+    for (Node node : nodes) {
+      when(graph.getNodeById(node.getId())).thenReturn(node);
+    }
+  }
+
+  private static Node node(long id) {
+    Node node = mock(Node.class);
+    when(node.getId()).thenReturn(id);
+    return node;
+  }
+
+  private static ResourceIterator<Node> iterator(Iterator<Node> nodes) {
+    return new ResourceIterator<Node>() {
+      @Override
+      public boolean hasNext() {
+        return nodes.hasNext();
+      }
+
+      @Override
+      public Node next() {
+        return nodes.next();
+      }
+
+      @Override
+      public void close() {
+        // nothing to release
+      }
+    };
+  }
+}
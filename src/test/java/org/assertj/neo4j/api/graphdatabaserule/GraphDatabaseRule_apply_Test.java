@@ -0,0 +1,139 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphdatabaserule;
+
+import org.assertj.neo4j.api.GraphDatabaseRule;
+import org.assertj.neo4j.api.GraphDatabaseRule.Isolation;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Transaction;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GraphDatabaseRule_apply_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final Description description = Description.createTestDescription(getClass(), "should_bake_doughnuts");
+
+  @Test
+  public void should_roll_back_what_the_test_has_written() throws Throwable {
+    GraphDatabaseRule rule = new GraphDatabaseRule();
+    GraphDatabaseService graph = rule.getGraphDatabaseService();
+
+    rule.apply(statement(() -> {
+      try (Transaction transaction = graph.beginTx()) {
+        graph.createNode(Label.label("DOUGHNUT"));
+        transaction.success();
+      }
+      graph.execute("CREATE (:DOUGHNUT)").close();
+      assertThat(graph).hasNodeCount("DOUGHNUT", 2);
+    }), description).evaluate();
+
+    assertThat(graph).hasNodeCount("DOUGHNUT", 0);
+  }
+
+  @Test
+  public void should_roll_back_what_a_failing_test_has_written() throws Throwable {
+    GraphDatabaseRule rule = new GraphDatabaseRule();
+    GraphDatabaseService graph = rule.getGraphDatabaseService();
+
+    try {
+      rule.apply(statement(() -> {
+        graph.execute("CREATE (:DOUGHNUT)").close();
+        throw new IllegalStateException("burnt");
+      }), description).evaluate();
+    } catch (IllegalStateException e) {
+      assertEquals("burnt", e.getMessage());
+    }
+
+    assertThat(graph).hasNodeCount("DOUGHNUT", 0);
+  }
+
+  @Test
+  public void should_clean_up_what_the_test_has_committed() throws Throwable {
+    GraphDatabaseRule rule = new GraphDatabaseRule(Isolation.CLEANUP);
+    GraphDatabaseService graph = rule.getGraphDatabaseService();
+
+    rule.apply(statement(() -> {
+      graph.execute("CREATE CONSTRAINT ON (d:DOUGHNUT) ASSERT d.name IS UNIQUE").close();
+      graph.execute("CREATE INDEX ON :BAKERY(city)").close();
+      graph.execute("CREATE (:DOUGHNUT {name: 'glazed'})-[:BAKED_IN]->(:BAKERY {city: 'Paris'})").close();
+    }), description).evaluate();
+
+    assertThat(graph).hasNodeCount(0);
+    try (Transaction ignored = graph.beginTx()) {
+      assertFalse(graph.schema().getIndexes().iterator().hasNext());
+      assertFalse(graph.schema().getConstraints().iterator().hasNext());
+    }
+  }
+
+  @Test
+  public void should_report_startup_once_and_reset_times_of_every_rule() throws Throwable {
+    List<String> reports = new ArrayList<>();
+    GraphDatabaseRule firstRule = new GraphDatabaseRule().reportingTo(reports::add);
+    GraphDatabaseRule secondRule = new GraphDatabaseRule().reportingTo(reports::add);
+    Duration totalResetTime = firstRule.getTotalResetTime();
+
+    firstRule.apply(statement(() -> {
+    }), description).evaluate();
+    secondRule.apply(statement(() -> {
+    }), description).evaluate();
+
+    assertEquals(3, reports.size());
+    assertTrue(reports.get(0).startsWith("Started graph database in "));
+    assertTrue(reports.get(1).startsWith("Reset graph database after " + description.getDisplayName() + " in "));
+    assertTrue(reports.get(2).startsWith("Reset graph database after " + description.getDisplayName() + " in "));
+    assertTrue(secondRule.getStartupTime().compareTo(secondRule.getLastResetTime()) > 0);
+    assertEquals(totalResetTime.plus(firstRule.getLastResetTime()).plus(secondRule.getLastResetTime()),
+                 secondRule.getTotalResetTime());
+  }
+
+  @Test
+  public void should_fail_if_isolation_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The isolation should not be null");
+
+    new GraphDatabaseRule(null);
+  }
+
+  @Test
+  public void should_fail_if_reporter_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The reporter should not be null");
+
+    new GraphDatabaseRule().reportingTo(null);
+  }
+
+  private static Statement statement(Runnable test) {
+    return new Statement() {
+      @Override
+      public void evaluate() {
+        test.run();
+      }
+    };
+  }
+}
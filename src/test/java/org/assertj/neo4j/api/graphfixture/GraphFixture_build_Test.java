@@ -0,0 +1,173 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.graphfixture;
+
+import org.assertj.neo4j.api.GraphFixture;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.assertj.neo4j.api.GraphFixture.node;
+import static org.assertj.neo4j.api.GraphFixture.relationship;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GraphFixture_build_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void should_write_generated_nodes_and_relationships() {
+    try (GraphFixture fixture = GraphFixture.builder()
+                                            .nodes(LongStream.range(0, 1000)
+                                                             .mapToObj(id -> node(id, "DOUGHNUT")
+                                                                 .withProperty("rank", id)))
+                                            .relationships(LongStream.range(1, 1000)
+                                                                     .mapToObj(id -> relationship(id - 1, "NEXT", id)))
+                                            .build()) {
+      GraphDatabaseService graph = fixture.getGraphDatabaseService();
+
+      assertThat(graph).hasNodeCount("DOUGHNUT", 1000)
+                       .hasRelationshipCount("DOUGHNUT", "NEXT", null, 999);
+      try (Transaction ignored = graph.beginTx()) {
+        assertThat(graph.getNodeById(42)).hasProperty("rank", 42L);
+      }
+    }
+  }
+
+  @Test
+  public void should_write_nodes_and_relationships_read_from_csv_files() throws IOException {
+    Path nodes = csv("id,labels,flavour,price:double,glazed:boolean",
+                     "0,DOUGHNUT;GLAZED,\"sugar, \"\"cinnamon\"\"\",1.5,true",
+                     "1,BAKERY,,,");
+    Path relationships = csv("start,type,end,since:int",
+                             "0,BAKED_IN,1,1987");
+
+    try (GraphFixture fixture = GraphFixture.builder()
+                                            .nodesFromCsv(nodes)
+                                            .relationshipsFromCsv(relationships)
+                                            .build()) {
+      GraphDatabaseService graph = fixture.getGraphDatabaseService();
+
+      try (Transaction ignored = graph.beginTx()) {
+        Node doughnut = graph.getNodeById(0);
+        assertThat(doughnut).hasLabel("DOUGHNUT").hasLabel("GLAZED")
+                            .hasProperty("flavour", "sugar, \"cinnamon\"")
+                            .hasProperty("price", 1.5)
+                            .hasProperty("glazed", true);
+        assertThat(graph.getNodeById(1)).hasLabel("BAKERY").doesNotHavePropertyKey("flavour");
+        Relationship relationship = doughnut.getSingleRelationship(RelationshipType.withName("BAKED_IN"),
+                                                                   Direction.OUTGOING);
+        assertThat(relationship).hasProperty("since", 1987).endsWithNode(graph.getNodeById(1));
+      }
+    }
+  }
+
+  @Test
+  public void should_populate_indexes() {
+    try (GraphFixture fixture = GraphFixture.builder()
+                                            .nodes(Stream.of(node(0, "DOUGHNUT").withProperty("flavour", "glazed")))
+                                            .index("DOUGHNUT", "flavour")
+                                            .build()) {
+      GraphDatabaseService graph = fixture.getGraphDatabaseService();
+
+      try (Transaction ignored = graph.beginTx()) {
+        IndexDefinition index = graph.schema().getIndexes(Label.label("DOUGHNUT")).iterator().next();
+        assertEquals(Schema.IndexState.ONLINE, graph.schema().getIndexState(index));
+      }
+    }
+  }
+
+  @Test
+  public void should_delete_temporary_store_directory_on_close() {
+    GraphFixture fixture = GraphFixture.builder().nodes(Stream.of(node(0))).build();
+
+    fixture.close();
+
+    assertFalse(Files.exists(fixture.getStoreDirectory()));
+  }
+
+  @Test
+  public void should_keep_given_store_directory_on_close() throws IOException {
+    Path storeDirectory = temporaryFolder.newFolder().toPath();
+    GraphFixture fixture = GraphFixture.builder().nodes(Stream.of(node(0))).storeDirectory(storeDirectory).build();
+
+    fixture.close();
+
+    assertEquals(storeDirectory, fixture.getStoreDirectory());
+    assertTrue(Files.list(storeDirectory).findAny().isPresent());
+  }
+
+  @Test
+  public void should_fail_if_csv_header_does_not_start_with_fixed_columns() throws IOException {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("to start with start,type,end but was <start,end,type>");
+    Path relationships = csv("start,end,type", "0,1,BAKED_IN");
+
+    GraphFixture.builder().relationshipsFromCsv(relationships).build();
+  }
+
+  @Test
+  public void should_fail_if_csv_line_has_missing_cells() throws IOException {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("but line <0,DOUGHNUT> has 2");
+    Path nodes = csv("id,labels,flavour", "0,DOUGHNUT");
+
+    GraphFixture.builder().nodesFromCsv(nodes).build();
+  }
+
+  @Test
+  public void should_fail_if_node_id_is_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The node id should be positive.");
+
+    node(-1, "DOUGHNUT");
+  }
+
+  @Test
+  public void should_fail_if_nodes_are_null() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The nodes to write should not be null");
+
+    GraphFixture.builder().nodes(null);
+  }
+
+  private Path csv(String... lines) throws IOException {
+    Path csv = temporaryFolder.newFile().toPath();
+    Files.write(csv, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    return csv;
+  }
+}
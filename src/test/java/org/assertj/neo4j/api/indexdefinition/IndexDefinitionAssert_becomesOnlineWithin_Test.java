@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.indexdefinition;
+
+import org.assertj.neo4j.api.IndexDefinitionAssert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.index.IndexPopulationProgress;
+import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema;
+import org.neo4j.graphdb.schema.Schema.IndexState;
+
+import java.time.Duration;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IndexDefinitionAssert_becomesOnlineWithin_Test {
+
+  private final IndexDefinition indexDefinition = mock(IndexDefinition.class);
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+  private final Schema schema = mock(Schema.class);
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  public IndexDefinitionAssert_becomesOnlineWithin_Test() {
+    when(graph.beginTx()).thenReturn(mock(Transaction.class));
+    when(graph.schema()).thenReturn(schema);
+    when(indexDefinition.toString()).thenReturn("IndexDefinition[label:Avenger, on:name]");
+  }
+
+  @Test
+  public void should_pass_once_index_becomes_online_recording_wait_time() {
+    when(schema.getIndexState(indexDefinition)).thenReturn(IndexState.POPULATING, IndexState.POPULATING,
+                                                           IndexState.ONLINE);
+    IndexDefinitionAssert indexDefinitionAssert = assertThat(indexDefinition).inGraph(graph);
+    assertNull(indexDefinitionAssert.getWaitTimeUntilOnline());
+
+    assertSame(indexDefinitionAssert, indexDefinitionAssert.becomesOnlineWithin(Duration.ofSeconds(10)));
+    assertNotNull(indexDefinitionAssert.getWaitTimeUntilOnline());
+    verify(schema, times(3)).getIndexState(indexDefinition);
+  }
+
+  @Test
+  public void should_pass_without_waiting_if_index_is_online() {
+    when(schema.getIndexState(indexDefinition)).thenReturn(IndexState.ONLINE);
+
+    assertThat(indexDefinition).inGraph(graph).becomesOnlineWithin(Duration.ZERO);
+  }
+
+  @Test
+  public void should_fail_if_timeout_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The timeout to wait for the index should not be null nor negative");
+
+    assertThat(indexDefinition).inGraph(graph).becomesOnlineWithin(null);
+  }
+
+  @Test
+  public void should_fail_if_timeout_is_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The timeout to wait for the index should not be null nor negative");
+
+    assertThat(indexDefinition).inGraph(graph).becomesOnlineWithin(Duration.ofMillis(-1));
+  }
+
+  @Test
+  public void should_fail_if_graph_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The graph database of the index should not be null");
+
+    assertThat(indexDefinition).inGraph(null);
+  }
+
+  @Test
+  public void should_fail_reporting_population_progress_if_index_is_still_populating() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting index:\n  <IndexDefinition[label:Avenger, on:name]>\n" +
+                                    "to become online within:\n  <20 ms>\n" +
+                                    "but was still populating, having completed:\n  <42.0%>");
+    when(schema.getIndexState(indexDefinition)).thenReturn(IndexState.POPULATING);
+    when(schema.getIndexPopulationProgress(indexDefinition)).thenReturn(new IndexPopulationProgress(42, 100));
+
+    assertThat(indexDefinition).inGraph(graph).becomesOnlineWithin(Duration.ofMillis(20));
+  }
+
+  @Test
+  public void should_fail_reporting_population_failure_if_index_fails() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("to be:\n  <ONLINE>\nbut failed with:\n  <\"Duplicate value\">");
+    when(schema.getIndexState(indexDefinition)).thenReturn(IndexState.POPULATING, IndexState.FAILED);
+    when(schema.getIndexFailure(indexDefinition)).thenReturn("Duplicate value");
+
+    assertThat(indexDefinition).inGraph(graph).becomesOnlineWithin(Duration.ofSeconds(10));
+  }
+}
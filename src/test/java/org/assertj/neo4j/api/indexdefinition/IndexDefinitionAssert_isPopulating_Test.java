@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.indexdefinition;
+
+import org.assertj.neo4j.api.IndexDefinitionAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema;
+import org.neo4j.graphdb.schema.Schema.IndexState;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IndexDefinitionAssert_isPopulating_Test {
+
+  private final IndexDefinition indexDefinition = mock(IndexDefinition.class);
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+  private final Schema schema = mock(Schema.class);
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  public IndexDefinitionAssert_isPopulating_Test() {
+    when(graph.beginTx()).thenReturn(mock(Transaction.class));
+    when(graph.schema()).thenReturn(schema);
+    when(indexDefinition.toString()).thenReturn("IndexDefinition[label:Avenger, on:name]");
+  }
+
+  @Test
+  public void should_pass_if_index_is_populating() {
+    when(schema.getIndexState(indexDefinition)).thenReturn(IndexState.POPULATING);
+
+    Assert.assertThat(assertThat(indexDefinition).inGraph(graph).isPopulating(),
+                      instanceOf(IndexDefinitionAssert.class));
+  }
+
+  @Test
+  public void should_fail_if_index_definition_is_null() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting actual not to be null");
+
+    assertThat((IndexDefinition) null).inGraph(graph).isPopulating();
+  }
+
+  @Test
+  public void should_fail_if_graph_is_unknown() {
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage("The graph database of the index should be given with inGraph(graph) first");
+
+    assertThat(indexDefinition).isPopulating();
+  }
+
+  @Test
+  public void should_fail_if_index_is_online() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting index:\n  <IndexDefinition[label:Avenger, on:name]>\nto be:\n" +
+                                    "  <POPULATING>\nbut was:\n  <ONLINE>");
+    when(schema.getIndexState(indexDefinition)).thenReturn(IndexState.ONLINE);
+
+    assertThat(indexDefinition).inGraph(graph).isPopulating();
+  }
+}
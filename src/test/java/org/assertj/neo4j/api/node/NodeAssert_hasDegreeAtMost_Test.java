@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.node;
+
+import org.assertj.neo4j.api.NodeAssert;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+
+import java.util.Arrays;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NodeAssert_hasDegreeAtMost_Test {
+
+  private static final RelationshipType TOPPED_WITH = RelationshipType.withName("TOPPED_WITH");
+  private static final RelationshipType BAKED_BY = RelationshipType.withName("BAKED_BY");
+
+  private final Node node = mock(Node.class);
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Before
+  public void given_node_with_relationships() {
+    when(node.getDegree()).thenReturn(3);
+    when(node.getDegree(TOPPED_WITH, Direction.OUTGOING)).thenReturn(2);
+    when(node.getDegree(TOPPED_WITH, Direction.BOTH)).thenReturn(2);
+    when(node.getDegree(BAKED_BY, Direction.OUTGOING)).thenReturn(1);
+    when(node.getDegree(BAKED_BY, Direction.BOTH)).thenReturn(1);
+    when(node.getRelationshipTypes()).thenReturn(Arrays.asList(TOPPED_WITH, BAKED_BY));
+  }
+
+  @Test
+  public void should_pass_if_node_has_degree() {
+    Assert.assertThat(assertThat(node).hasDegreeAtMost(5), instanceOf(NodeAssert.class));
+    verify(node, never()).getRelationships();
+  }
+
+  @Test
+  public void should_pass_if_node_has_typed_degree() {
+    Assert.assertThat(assertThat(node).hasDegreeAtMost(TOPPED_WITH, Direction.OUTGOING, 2), instanceOf(NodeAssert.class));
+    verify(node, never()).getRelationships(TOPPED_WITH, Direction.OUTGOING);
+  }
+
+  @Test
+  public void should_fail_if_node_is_null() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting actual not to be null");
+
+    assertThat((Node) null).hasDegreeAtMost(1);
+  }
+
+  @Test
+  public void should_fail_if_degree_is_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(node).hasDegreeAtMost(-1);
+  }
+
+  @Test
+  public void should_fail_if_type_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(node).hasDegreeAtMost(null, Direction.OUTGOING, 1);
+  }
+
+  @Test
+  public void should_fail_if_direction_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(node).hasDegreeAtMost(TOPPED_WITH, null, 1);
+  }
+
+  @Test
+  public void should_fail_if_node_does_NOT_have_degree() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("to have a degree of at most:\n  <2>\nfor all relationships but had:\n  <3>\n" +
+                                    "degrees by type were:\n  <{\"BAKED_BY\"=1, \"TOPPED_WITH\"=2}>");
+
+    assertThat(node).hasDegreeAtMost(2);
+  }
+
+  @Test
+  public void should_fail_if_node_does_NOT_have_typed_degree() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("to have a degree of at most:\n  <1>\n" +
+                                    "for OUTGOING relationships of type TOPPED_WITH but had:\n  <2>\n" +
+                                    "degrees by type were:\n  <{\"BAKED_BY\"=1, \"TOPPED_WITH\"=2}>");
+
+    assertThat(node).hasDegreeAtMost(TOPPED_WITH, Direction.OUTGOING, 1);
+  }
+
+}
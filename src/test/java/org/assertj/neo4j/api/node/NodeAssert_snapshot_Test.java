@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.node;
+
+import org.assertj.neo4j.api.NodeAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NodeAssert_snapshot_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+
+  private final Node node = mock(Node.class);
+
+  public NodeAssert_snapshot_Test() {
+    when(graph.beginTx()).thenReturn(mock(Transaction.class));
+    when(node.getGraphDatabase()).thenReturn(graph);
+    when(node.getId()).thenReturn(42L);
+    when(node.getLabels()).thenReturn(Arrays.asList(Label.label("DOUGHNUT"), Label.label("GLAZED")));
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("flavour", "glazed");
+    properties.put("weight", 80);
+    when(node.getAllProperties()).thenReturn(properties);
+    RelationshipType toppedWith = RelationshipType.withName("TOPPED_WITH");
+    when(node.getRelationshipTypes()).thenReturn(Collections.singletonList(toppedWith));
+    when(node.getDegree(toppedWith, Direction.OUTGOING)).thenReturn(2);
+    when(node.getDegree(toppedWith, Direction.INCOMING)).thenReturn(1);
+    when(node.getDegree(toppedWith, Direction.BOTH)).thenReturn(3);
+  }
+
+  @Test
+  public void should_read_node_once_in_a_single_transaction() {
+    NodeAssert snapshot = assertThat(node).snapshot();
+
+    Assert.assertThat(snapshot.hasLabel("DOUGHNUT")
+                              .doesNotHaveLabel("CROISSANT")
+                              .hasPropertyKey("flavour")
+                              .hasProperty("weight", 80)
+                              .doesNotHaveProperty("flavour", "sugar"),
+                      instanceOf(NodeAssert.class));
+    verify(graph, times(1)).beginTx();
+    verify(node, times(1)).getAllProperties();
+    verify(node, never()).hasLabel(any());
+    verify(node, never()).hasProperty(anyString());
+    verify(node, never()).getProperty(anyString(), any());
+    verify(node, never()).getRelationshipTypes();
+  }
+
+  @Test
+  public void should_snapshot_equal_actual_node() {
+    Node snapshot = assertThat(node).snapshot().getActual();
+
+    assertNotSame(node, snapshot);
+    assertEquals(snapshot, node);
+    assertEquals(42L, snapshot.getId());
+  }
+
+  @Test
+  public void should_fail_on_snapshot_without_reading_node() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("(42:DOUGHNUT:GLAZED {flavour: \"glazed\", weight: 80})");
+    NodeAssert snapshot = assertThat(node).snapshot();
+
+    try {
+      snapshot.hasProperty("weight", 100);
+    } finally {
+      verify(graph, times(1)).beginTx();
+    }
+  }
+
+  @Test
+  public void should_fail_if_node_is_null() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting actual not to be null");
+
+    assertThat((Node) null).snapshot();
+  }
+
+  @Test
+  public void should_read_degrees_once_on_first_use() {
+    NodeAssert snapshot = assertThat(node).snapshot();
+
+    snapshot.hasDegree(3)
+            .hasDegree(RelationshipType.withName("TOPPED_WITH"), Direction.OUTGOING, 2)
+            .hasDegree(RelationshipType.withName("TOPPED_WITH"), Direction.INCOMING, 1)
+            .hasDegree(RelationshipType.withName("BAKED_IN"), Direction.BOTH, 0)
+            .hasDegreeAtMost(3);
+    verify(graph, times(2)).beginTx();
+    verify(node, times(1)).getRelationshipTypes();
+    verify(node, never()).getDegree();
+  }
+
+  @Test
+  public void should_fail_on_snapshot_degree() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("to have a degree of:\n  <2>\nfor all relationships but had:\n  <3>\n");
+
+    assertThat(node).snapshot().hasDegree(2);
+  }
+}
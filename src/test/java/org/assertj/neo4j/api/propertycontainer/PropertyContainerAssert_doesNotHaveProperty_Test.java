@@ -84,7 +84,16 @@ public class PropertyContainerAssert_doesNotHaveProperty_Test {
     assertThat(propertyContainer).doesNotHaveProperty("name", "Emil Eifrem");
   }
 
-  private void given_property_container_with_key_and_value(String key, String value) {
+  @Test
+  public void should_fail_when_property_container_has_key_AND_same_array_value() {
+    expectedException.expect(AssertionError.class);
+
+    given_property_container_with_key_and_value("samples", new long[] {3L, 1L, 4L});
+
+    assertThat(propertyContainer).doesNotHaveProperty("samples", new long[] {3L, 1L, 4L});
+  }
+
+  private void given_property_container_with_key_and_value(String key, Object value) {
     when(propertyContainer.hasProperty(key)).thenReturn(true);
     when(propertyContainer.getProperty(key, null)).thenReturn(value);
   }
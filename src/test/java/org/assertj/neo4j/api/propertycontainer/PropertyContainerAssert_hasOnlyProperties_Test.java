@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.propertycontainer;
+
+import org.assertj.neo4j.api.PropertyContainerAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.PropertyContainer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.rules.ExpectedException.none;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PropertyContainerAssert_hasOnlyProperties_Test {
+
+  private final PropertyContainer propertyContainer = mock(PropertyContainer.class);
+  @Rule
+  public ExpectedException expectedException = none();
+
+  @Test
+  public void should_pass_when_property_container_has_only_given_properties() {
+    when(propertyContainer.getAllProperties()).thenReturn(properties("name", "Emil Eifrem", "year", 2007));
+
+    Assert.assertThat(assertThat(propertyContainer).hasOnlyProperties(properties("year", 2007, "name", "Emil Eifrem")),
+                      instanceOf(PropertyContainerAssert.class));
+  }
+
+  @Test
+  public void should_fail_when_given_properties_are_null() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The properties to look for should not be null");
+
+    assertThat(propertyContainer).hasOnlyProperties(null);
+  }
+
+  @Test
+  public void should_fail_when_property_container_is_null() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting actual not to be null");
+
+    assertThat((PropertyContainer) null).hasOnlyProperties(properties("name", "Emil Eifrem"));
+  }
+
+  @Test
+  public void should_fail_reporting_every_missing_key_different_value_and_unexpected_property() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but could not find keys:\n  <[\"company\"]>\n" +
+                                    "found different values:\n  <{\"year\"=2010}>\n" +
+                                    "and found unexpected properties:\n  <{\"city\"=\"Malmo\"}>");
+
+    when(propertyContainer.getAllProperties()).thenReturn(properties("name", "Emil Eifrem", "year", 2010,
+                                                                     "city", "Malmo"));
+
+    assertThat(propertyContainer).hasOnlyProperties(properties("name", "Emil Eifrem", "company", "Neo4j",
+                                                               "year", 2007));
+  }
+
+  private static Map<String, Object> properties(Object... keysAndValues) {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    for (int i = 0; i < keysAndValues.length; i += 2) {
+      properties.put((String) keysAndValues[i], keysAndValues[i + 1]);
+    }
+    return properties;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.propertycontainer;
+
+import org.assertj.neo4j.api.PropertyContainerAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.PropertyContainer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.rules.ExpectedException.none;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PropertyContainerAssert_hasPropertiesSatisfying_Test {
+
+  private final PropertyContainer propertyContainer = mock(PropertyContainer.class);
+  @Rule
+  public ExpectedException expectedException = none();
+
+  @Test
+  public void should_pass_when_every_property_satisfies_its_requirement() {
+    Map<String, Consumer<Object>> requirements = new LinkedHashMap<>();
+    requirements.put("name", name -> assertThat((String) name).startsWith("Emil"));
+    requirements.put("year", year -> assertThat((int) year).isBetween(2000, 2010));
+    given_property_container_with_name_and_year();
+
+    Assert.assertThat(assertThat(propertyContainer).hasPropertiesSatisfying(requirements), instanceOf(
+      PropertyContainerAssert.class));
+  }
+
+  @Test
+  public void should_fail_when_given_requirements_are_null() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The requirements to check should not be null");
+
+    assertThat(propertyContainer).hasPropertiesSatisfying(null);
+  }
+
+  @Test
+  public void should_fail_reporting_every_missing_key_and_failing_requirement() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but could not find keys:\n  <[\"company\"]>\n");
+    expectedException.expectMessage("\"name\"=");
+    expectedException.expectMessage("\"year\"=");
+
+    Map<String, Consumer<Object>> requirements = new LinkedHashMap<>();
+    requirements.put("name", name -> assertThat((String) name).startsWith("Peter"));
+    requirements.put("company", company -> assertThat(company).isEqualTo("Neo4j"));
+    requirements.put("year", year -> assertThat((int) year).isGreaterThan(2010));
+    when(propertyContainer.getProperties("name", "company", "year")).thenReturn(properties());
+
+    assertThat(propertyContainer).hasPropertiesSatisfying(requirements);
+  }
+
+  private void given_property_container_with_name_and_year() {
+    when(propertyContainer.getProperties("name", "year")).thenReturn(properties());
+  }
+
+  private static Map<String, Object> properties() {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("name", "Emil Eifrem");
+    properties.put("year", 2007);
+    return properties;
+  }
+}
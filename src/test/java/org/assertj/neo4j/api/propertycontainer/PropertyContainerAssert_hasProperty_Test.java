@@ -68,7 +68,53 @@ public class PropertyContainerAssert_hasProperty_Test {
     assertThat(propertyContainer).hasProperty("name", "Peter Neubauer");
   }
 
-  private void given_property_container_with_property(String key, String value) {
+  @Test
+  public void should_pass_when_property_container_has_same_array_property() {
+    given_property_container_with_property("samples", new long[] {3L, 1L, 4L});
+
+    Assert.assertThat(assertThat(propertyContainer).hasProperty("samples", new long[] {3L, 1L, 4L}), instanceOf(
+      PropertyContainerAssert.class));
+  }
+
+  @Test
+  public void should_pass_when_property_container_has_same_string_array_property() {
+    given_property_container_with_property("names", new String[] {"Emil", "Peter"});
+
+    Assert.assertThat(assertThat(propertyContainer).hasProperty("names", new String[] {"Emil", "Peter"}), instanceOf(
+      PropertyContainerAssert.class));
+  }
+
+  @Test
+  public void should_fail_reporting_first_differing_array_element() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but element at index 2 was:\n  <5.0>\ninstead of:\n  <4.0>");
+
+    given_property_container_with_property("samples", new double[] {3.0, 1.0, 5.0, 9.0});
+
+    assertThat(propertyContainer).hasProperty("samples", new double[] {3.0, 1.0, 4.0, 1.0});
+  }
+
+  @Test
+  public void should_fail_reporting_array_length_when_array_starts_with_expected_one() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but array length was:\n  <4>\ninstead of:\n  <3>");
+
+    given_property_container_with_property("samples", new int[] {3, 1, 4, 1});
+
+    assertThat(propertyContainer).hasProperty("samples", new int[] {3, 1, 4});
+  }
+
+  @Test
+  public void should_fail_when_array_property_has_another_element_type() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("to have property with key:\n  <\"samples\">");
+
+    given_property_container_with_property("samples", new int[] {3, 1, 4});
+
+    assertThat(propertyContainer).hasProperty("samples", new long[] {3L, 1L, 4L});
+  }
+
+  private void given_property_container_with_property(String key, Object value) {
     when(propertyContainer.hasProperty(key)).thenReturn(true);
     when(propertyContainer.getProperty(key, null)).thenReturn(value);
   }
@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.propertycontainer;
+
+import org.assertj.neo4j.api.PropertyContainerAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.PropertyContainer;
+
+import static org.assertj.core.data.Offset.offset;
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.rules.ExpectedException.none;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PropertyContainerAssert_hasProperty_within_offset_Test {
+
+  private final PropertyContainer propertyContainer = mock(PropertyContainer.class);
+  @Rule
+  public ExpectedException expectedException = none();
+
+  @Test
+  public void should_pass_when_numeric_property_is_within_offset() {
+    given_property_container_with_property("weight", 80.02);
+
+    Assert.assertThat(assertThat(propertyContainer).hasProperty("weight", 80.0, offset(0.05)), instanceOf(
+      PropertyContainerAssert.class));
+  }
+
+  @Test
+  public void should_pass_when_every_array_element_is_within_offset() {
+    given_property_container_with_property("embedding", new float[] {0.12f, 0.87f, 0.33f});
+
+    Assert.assertThat(assertThat(propertyContainer).hasProperty("embedding", new float[] {0.1f, 0.9f, 0.3f},
+                                                                offset(0.05)),
+                      instanceOf(PropertyContainerAssert.class));
+  }
+
+  @Test
+  public void should_pass_when_long_array_elements_are_within_offset() {
+    given_property_container_with_property("timestamps", new long[] {1000L, 2001L, 2999L});
+
+    Assert.assertThat(assertThat(propertyContainer).hasProperty("timestamps", new long[] {1000L, 2000L, 3000L},
+                                                                offset(1.0)),
+                      instanceOf(PropertyContainerAssert.class));
+  }
+
+  @Test
+  public void should_fail_when_given_offset_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The offset to compare values within should not be null");
+
+    given_property_container_with_property("weight", 80.0);
+
+    assertThat(propertyContainer).hasProperty("weight", 80.0, null);
+  }
+
+  @Test
+  public void should_fail_reporting_first_array_element_out_of_offset() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but element at index 1 was:\n  <0.8>\ninstead of:\n  <0.9>");
+
+    given_property_container_with_property("embedding", new double[] {0.12, 0.8, 0.2});
+
+    assertThat(propertyContainer).hasProperty("embedding", new double[] {0.1, 0.9, 0.3}, offset(0.05));
+  }
+
+  @Test
+  public void should_fail_when_numeric_property_has_another_type() {
+    expectedException.expect(AssertionError.class);
+
+    given_property_container_with_property("weight", 80);
+
+    assertThat(propertyContainer).hasProperty("weight", 80.0, offset(0.05));
+  }
+
+  private void given_property_container_with_property(String key, Object value) {
+    when(propertyContainer.hasProperty(key)).thenReturn(true);
+    when(propertyContainer.getProperty(key, null)).thenReturn(value);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.querylatency;
+
+import org.assertj.neo4j.api.QueryLatencyAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Result;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.neo4j.api.Assertions.assertThatQuery;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class QueryLatencyAssert_hasP99LatencyBelow_Test {
+
+  private static final String QUERY = "MATCH (n:DOUGHNUT {flavour: {flavour}}) RETURN n";
+  private static final Map<String, Object> PARAMETERS = Collections.singletonMap("flavour", "chocolate");
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final Result result = mock(Result.class);
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+
+  {
+    when(graph.execute(QUERY, PARAMETERS)).thenReturn(result);
+  }
+
+  @Test
+  public void should_pass_if_latency_is_below_maximum() {
+    Assert.assertThat(assertThatQuery(graph, QUERY, PARAMETERS).hasP99LatencyBelow(Duration.ofMinutes(1)),
+                      instanceOf(QueryLatencyAssert.class));
+  }
+
+  @Test
+  public void should_execute_and_consume_query_for_warmup_and_iterations() {
+    assertThatQuery(graph, QUERY, PARAMETERS).warmup(5).iterations(20)
+                                             .hasP99LatencyBelow(Duration.ofMinutes(1))
+                                             .hasP99LatencyBelow(Duration.ofMinutes(2));
+
+    verify(graph, times(25)).execute(QUERY, PARAMETERS);
+    verify(result, times(25)).accept(any());
+  }
+
+  @Test
+  public void should_fail_if_max_latency_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThatQuery(graph, QUERY, PARAMETERS).hasP99LatencyBelow(null);
+  }
+
+  @Test
+  public void should_fail_if_latency_is_not_below_maximum() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting query:\n  <\"" + QUERY + "\">\nto have a latency below:\n  <PT0S>\n");
+    expectedException.expectMessage("but latencies over 3L iterations were:\n  <p50=");
+
+    assertThatQuery(graph, QUERY, PARAMETERS).warmup(0).iterations(3).hasP99LatencyBelow(Duration.ZERO);
+  }
+}
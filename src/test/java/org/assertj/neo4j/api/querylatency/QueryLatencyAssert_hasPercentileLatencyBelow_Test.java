@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.querylatency;
+
+import org.assertj.neo4j.api.QueryLatencyAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Result;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.neo4j.api.Assertions.assertThatQuery;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class QueryLatencyAssert_hasPercentileLatencyBelow_Test {
+
+  private static final String QUERY = "MATCH (n:DOUGHNUT) RETURN n";
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+
+  {
+    when(graph.execute(QUERY, Collections.emptyMap())).thenReturn(mock(Result.class));
+  }
+
+  @Test
+  public void should_pass_if_percentile_latency_is_below_maximum() {
+    Assert.assertThat(assertThatQuery(graph, QUERY).hasPercentileLatencyBelow(99.9, Duration.ofMinutes(1)),
+                      instanceOf(QueryLatencyAssert.class));
+  }
+
+  @Test
+  public void should_fail_if_percentile_is_not_strictly_positive() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThatQuery(graph, QUERY).hasPercentileLatencyBelow(0, Duration.ofMinutes(1));
+  }
+
+  @Test
+  public void should_fail_if_percentile_is_above_100() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThatQuery(graph, QUERY).hasPercentileLatencyBelow(100.1, Duration.ofMinutes(1));
+  }
+
+  @Test
+  public void should_fail_if_iterations_are_not_strictly_positive() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThatQuery(graph, QUERY).iterations(0);
+  }
+
+  @Test
+  public void should_fail_if_warmup_is_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThatQuery(graph, QUERY).warmup(-1);
+  }
+
+  @Test
+  public void should_fail_if_percentile_latency_is_not_below_maximum() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("at percentile:\n  <100.0>\n");
+
+    assertThatQuery(graph, QUERY).hasPercentileLatencyBelow(100, Duration.ZERO);
+  }
+}
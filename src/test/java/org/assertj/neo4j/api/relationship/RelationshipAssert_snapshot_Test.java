@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.relationship;
+
+import org.assertj.neo4j.api.RelationshipAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+
+import java.util.Collections;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RelationshipAssert_snapshot_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+
+  private final Relationship relationship = mock(Relationship.class);
+
+  private final Node doughnut = mock(Node.class);
+
+  private final Node bakery = mock(Node.class);
+
+  public RelationshipAssert_snapshot_Test() {
+    when(graph.beginTx()).thenReturn(mock(Transaction.class));
+    when(doughnut.getId()).thenReturn(1L);
+    when(bakery.getId()).thenReturn(2L);
+    when(relationship.getGraphDatabase()).thenReturn(graph);
+    when(relationship.getId()).thenReturn(7L);
+    when(relationship.getType()).thenReturn(RelationshipType.withName("BAKED_IN"));
+    when(relationship.getStartNode()).thenReturn(doughnut);
+    when(relationship.getEndNode()).thenReturn(bakery);
+    when(relationship.getAllProperties()).thenReturn(Collections.singletonMap("since", 1987));
+  }
+
+  @Test
+  public void should_read_relationship_once_in_a_single_transaction() {
+    RelationshipAssert snapshot = assertThat(relationship).snapshot();
+
+    Assert.assertThat(snapshot.hasType("BAKED_IN")
+                              .startsWithNode(doughnut)
+                              .endsWithNode(bakery)
+                              .hasProperty("since", 1987),
+                      instanceOf(RelationshipAssert.class));
+    verify(graph, times(1)).beginTx();
+    verify(relationship, times(1)).getType();
+    verify(relationship, times(1)).getStartNode();
+    verify(relationship, never()).getProperty(anyString(), any());
+  }
+
+  @Test
+  public void should_fail_on_snapshot_without_reading_relationship() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("(1)-[7:BAKED_IN {since: 1987}]->(2)");
+
+    assertThat(relationship).snapshot().hasProperty("since", 2001);
+  }
+
+  @Test
+  public void should_fail_if_relationship_is_null() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting actual not to be null");
+
+    assertThat((Relationship) null).snapshot();
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.representation;
+
+import org.assertj.core.presentation.StandardRepresentation;
+import org.assertj.neo4j.api.Neo4jRepresentation;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Path;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Result;
+import org.neo4j.graphdb.Transaction;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.util.Maps.newHashMap;
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class Neo4jRepresentation_toStringOf_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+
+  public Neo4jRepresentation_toStringOf_Test() {
+    when(graph.beginTx()).thenReturn(mock(Transaction.class));
+  }
+
+  @After
+  public void resetDefaults() {
+    Neo4jRepresentation.resetDefaults();
+  }
+
+  @Test
+  public void should_format_node_with_labels_and_first_properties() {
+    Node node = node(42, "DOUGHNUT", "GLAZED");
+    properties(node, "flavour", "glazed", "weight", 3L, "price", 1.5);
+
+    assertEquals("(42:DOUGHNUT:GLAZED {flavour: \"glazed\", weight: 3L, ...})",
+                 new Neo4jRepresentation(10, 2).toStringOf(node));
+  }
+
+  @Test
+  public void should_format_relationship_with_its_nodes_and_properties() {
+    Relationship relationship = mock(Relationship.class);
+    when(relationship.getGraphDatabase()).thenReturn(graph);
+    when(relationship.getId()).thenReturn(7L);
+    when(relationship.getType()).thenReturn(RelationshipType.withName("BAKED_IN"));
+    Node start = node(1);
+    Node end = node(2);
+    when(relationship.getStartNode()).thenReturn(start);
+    when(relationship.getEndNode()).thenReturn(end);
+    properties(relationship, "since", 1987);
+
+    assertEquals("(1)-[7:BAKED_IN {since: 1987}]->(2)", new Neo4jRepresentation().toStringOf(relationship));
+  }
+
+  @Test
+  public void should_format_each_node_once() {
+    Node node = node(42, "DOUGHNUT");
+    Neo4jRepresentation representation = new Neo4jRepresentation();
+
+    representation.toStringOf(node);
+    representation.toStringOf(node);
+
+    verify(node, times(1)).getLabels();
+  }
+
+  @Test
+  public void should_fall_back_to_node_representation_without_database() {
+    Node node = mock(Node.class);
+    when(node.toString()).thenReturn("Node[42]");
+
+    assertEquals("Node[42]", new Neo4jRepresentation().toStringOf(node));
+  }
+
+  @Test
+  public void should_format_first_elements_of_path() {
+    Path path = mock(Path.class);
+    List<PropertyContainer> elements = Arrays.asList(node(1), mock(Relationship.class), node(2),
+                                                     mock(Relationship.class), node(3));
+    when(path.length()).thenReturn(2);
+    when(path.iterator()).thenAnswer(ignored -> elements.iterator());
+    StandardRepresentation.setMaxElementsForPrinting(1);
+
+    assertEquals("[(1), ... 4 more]", new Neo4jRepresentation().toStringOf(path));
+  }
+
+  @Test
+  public void should_format_first_rows_of_failing_result() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("[{\"foo\"=\"fighters\"}, {\"foo\"=\"bar\"}, ... 1 more]");
+
+    Result result = result(Arrays.asList(newHashMap("foo", "fighters"),
+                                         newHashMap("foo", "bar"),
+                                         newHashMap("foo", "rire")));
+
+    assertThat(result).withRepresentation(new Neo4jRepresentation(2, 10)).hasSize(1);
+  }
+
+  @Test
+  public void should_fail_if_max_elements_is_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The maximum number of elements to print should be positive.");
+
+    new Neo4jRepresentation(-1, 10);
+  }
+
+  @Test
+  public void should_fail_if_max_properties_is_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The maximum number of properties to print should be positive.");
+
+    Neo4jRepresentation.setMaxPropertiesForPrinting(-1);
+  }
+
+  private Node node(long id, String... labels) {
+    Node node = mock(Node.class);
+    when(node.getGraphDatabase()).thenReturn(graph);
+    when(node.getId()).thenReturn(id);
+    Label[] nodeLabels = Arrays.stream(labels).map(Label::label).toArray(Label[]::new);
+    when(node.getLabels()).thenReturn(Arrays.asList(nodeLabels));
+    when(node.getPropertyKeys()).thenReturn(Collections.emptyList());
+    return node;
+  }
+
+  private static void properties(PropertyContainer entity, Object... keysAndValues) {
+    String[] keys = new String[keysAndValues.length / 2];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = (String) keysAndValues[2 * i];
+      when(entity.getProperty(keys[i])).thenReturn(keysAndValues[2 * i + 1]);
+    }
+    when(entity.getPropertyKeys()).thenReturn(Arrays.asList(keys));
+  }
+
+  private static Result result(Iterable<Map<String, Object>> rows) {
+    Iterator<Map<String, Object>> iterator = rows.iterator();
+    Result result = mock(Result.class);
+    when(result.hasNext()).thenAnswer((ignored) -> iterator.hasNext());
+    when(result.next()).thenAnswer((ignored) -> iterator.next());
+    return result;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.result;
+
+import org.assertj.neo4j.api.ResultAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.Result;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.assertj.core.util.Maps.newHashMap;
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ResultAssert_containsExactlyInAnyOrder_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void should_pass_if_result_contains_exactly_given_rows_in_any_order() {
+    Result result = result(Arrays.asList(newHashMap("foo", "fighters"),
+                                         newHashMap("foo", "bar"),
+                                         newHashMap("foo", "fighters")));
+
+    Assert.assertThat(assertThat(result).containsExactlyInAnyOrder(newHashMap("foo", "bar"),
+                                                                   newHashMap("foo", "fighters"),
+                                                                   newHashMap("foo", "fighters")),
+                      instanceOf(ResultAssert.class));
+  }
+
+  @Test
+  public void should_fail_if_result_is_null() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting actual not to be null");
+
+    assertThat((Result) null).containsExactlyInAnyOrder(newHashMap("foo", "fighters"));
+  }
+
+  @Test
+  public void should_fail_if_a_row_is_duplicated() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("could not find:\n  <[]>\n" +
+                                    "and found unexpected rows:\n  <[{\"foo\"=\"fighters\"}]>");
+
+    Result result = result(Arrays.asList(newHashMap("foo", "fighters"),
+                                         newHashMap("foo", "bar"),
+                                         newHashMap("foo", "fighters")));
+
+    assertThat(result).containsExactlyInAnyOrder(newHashMap("foo", "bar"), newHashMap("foo", "fighters"));
+  }
+
+  @Test
+  public void should_fail_reporting_only_missing_and_unexpected_rows() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("could not find:\n  <[{\"foo\"=\"rire\"}]>\n" +
+                                    "and found unexpected rows:\n  <[{\"foo\"=\"bar\"}]>");
+
+    Result result = result(Arrays.asList(newHashMap("foo", "fighters"), newHashMap("foo", "bar")));
+
+    assertThat(result).containsExactlyInAnyOrder(newHashMap("foo", "fighters"), newHashMap("foo", "rire"));
+  }
+
+  private Result result(Iterable<Map<String, Object>> rows) {
+    Iterator<Map<String, Object>> iterator = rows.iterator();
+    Result result = mock(Result.class);
+    when(result.hasNext()).thenAnswer((ignored) -> iterator.hasNext());
+    when(result.next()).thenAnswer((ignored) -> iterator.next());
+    return result;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.result;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.Result;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ResultAssert_containsExactly_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void should_pass_if_result_contains_exactly_given_rows() {
+    List<Map<String, Object>> rows = Arrays.asList(row(1L, 1.5, true, "homer"),
+                                                   row(null, null, null, null),
+                                                   row(3L, 2.5, false, "homer"),
+                                                   row(4, "4.5", "false", 42L));
+
+    assertThat(result(rows)).containsExactly(row(1L, 1.5, true, "homer"),
+                                             row(null, null, null, null),
+                                             row(3L, 2.5, false, "homer"),
+                                             row(4, "4.5", "false", 42L));
+  }
+
+  @Test
+  public void should_fail_if_result_rows_are_in_a_different_order() {
+    expectedException.expect(AssertionError.class);
+
+    List<Map<String, Object>> rows = Arrays.asList(row(1L, 1.5, true, "homer"), row(2L, 2.5, false, "marge"));
+
+    assertThat(result(rows)).containsExactly(row(2L, 2.5, false, "marge"), row(1L, 1.5, true, "homer"));
+  }
+
+  private static Map<String, Object> row(Object count, Object ratio, Object glazed, Object owner) {
+    Map<String, Object> row = new HashMap<>();
+    row.put("count", count);
+    row.put("ratio", ratio);
+    row.put("glazed", glazed);
+    row.put("owner", owner);
+    return row;
+  }
+
+  private Result result(Iterable<Map<String, Object>> rows) {
+    Iterator<Map<String, Object>> iterator = rows.iterator();
+    Result result = mock(Result.class);
+    when(result.hasNext()).thenAnswer((ignored) -> iterator.hasNext());
+    when(result.next()).thenAnswer((ignored) -> iterator.next());
+    return result;
+  }
+}
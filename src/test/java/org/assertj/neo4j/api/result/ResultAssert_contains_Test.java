@@ -17,6 +17,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.neo4j.graphdb.Result;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -43,6 +44,21 @@ public class ResultAssert_contains_Test {
       .doesNotContain(newHashMap("fou", "rire")), instanceOf(ResultAssert.class));
   }
 
+  @Test
+  public void should_fail_reporting_only_missing_rows() {
+    List<Map<String, Object>> actualResults = Arrays.asList(newHashMap("foo", "fighters"), newHashMap("foo", "bar"));
+    Result result = result(actualResults);
+
+    try {
+      assertThat(result).contains(newHashMap("foo", "fighters"), newHashMap("fou", "rire"));
+    } catch (AssertionError e) {
+      Assert.assertEquals("\nExpecting result to contain all given rows but could not find:\n  <[{\"fou\"=\"rire\"}]>\n",
+                          e.getMessage());
+      return;
+    }
+    Assert.fail("AssertionError expected");
+  }
+
   private Result result(Iterable<Map<String, Object>> rows) {
     Iterator<Map<String, Object>> iterator = rows.iterator();
     Result result = mock(Result.class);
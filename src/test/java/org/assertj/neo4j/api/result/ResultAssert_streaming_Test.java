@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.result;
+
+import org.assertj.neo4j.api.ResultAssert;
+import org.assertj.neo4j.api.StreamingResultAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.Result;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.assertj.core.util.Maps.newHashMap;
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ResultAssert_streaming_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void should_pass_if_result_rows_have_not_been_read() {
+    Result result = result(newHashMap("foo", "fighters"));
+
+    Assert.assertThat(assertThat(result).streaming(), instanceOf(StreamingResultAssert.class));
+  }
+
+  @Test
+  public void should_fail_if_result_is_null() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting actual not to be null");
+
+    assertThat((Result) null).streaming();
+  }
+
+  @Test
+  public void should_fail_if_result_rows_have_already_been_read() {
+    expectedException.expect(IllegalStateException.class);
+
+    Result result = result(newHashMap("foo", "fighters"));
+
+    ResultAssert resultAssert = assertThat(result);
+    resultAssert.hasSize(1);
+
+    resultAssert.streaming();
+  }
+
+  @SafeVarargs
+  private final Result result(Map<String, Object>... rows) {
+    Iterator<Map<String, Object>> iterator = Arrays.asList(rows).iterator();
+    Result result = mock(Result.class);
+    when(result.hasNext()).thenAnswer((ignored) -> iterator.hasNext());
+    when(result.next()).thenAnswer((ignored) -> iterator.next());
+    return result;
+  }
+}
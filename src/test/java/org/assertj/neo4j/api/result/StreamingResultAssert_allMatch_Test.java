@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.result;
+
+import org.assertj.neo4j.api.StreamingResultAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.Result;
+import org.neo4j.graphdb.Result.ResultRow;
+import org.neo4j.graphdb.Result.ResultVisitor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StreamingResultAssert_allMatch_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void should_pass_if_all_rows_match() {
+    Result result = result("fighters", "bar");
+
+    Assert.assertThat(assertThat(result).streaming().allMatch(row -> row.get("foo") != null),
+                      instanceOf(StreamingResultAssert.class));
+  }
+
+  @Test
+  public void should_pass_if_result_is_empty() {
+    assertThat(result()).streaming().allMatch(row -> false);
+  }
+
+  @Test
+  public void should_fail_if_predicate_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    assertThat(result()).streaming().allMatch(null);
+  }
+
+  @Test
+  public void should_fail_if_rows_have_already_been_consumed() {
+    expectedException.expect(IllegalStateException.class);
+
+    assertThat(result("fighters")).streaming().hasRowCount(1).allMatch(row -> true);
+  }
+
+  @Test
+  public void should_fail_on_first_row_not_matching() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("row at index 1L:\n  <{\"foo\"=\"rire\"}>");
+
+    assertThat(result("fighters", "rire", "bar")).streaming().allMatch(row -> !"rire".equals(row.get("foo")));
+  }
+
+  private Result result(String... values) {
+    Iterator<String> iterator = Arrays.asList(values).iterator();
+    Result result = mock(Result.class);
+    when(result.columns()).thenReturn(Collections.singletonList("foo"));
+    doAnswer(invocation -> {
+      ResultVisitor<RuntimeException> visitor = invocation.getArgument(0);
+      while (iterator.hasNext() && visitor.visit(row(iterator.next()))) {
+        // keeps on visiting
+      }
+      return null;
+    }).when(result).accept(any());
+    return result;
+  }
+
+  private static ResultRow row(String value) {
+    ResultRow row = mock(ResultRow.class);
+    when(row.get(anyString())).thenAnswer(invocation -> "foo".equals(invocation.getArgument(0)) ? value : null);
+    return row;
+  }
+}
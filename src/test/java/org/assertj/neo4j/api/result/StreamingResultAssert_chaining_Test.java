@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.result;
+
+import org.assertj.neo4j.api.GraphDatabaseRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.Result;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+
+public class StreamingResultAssert_chaining_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Rule
+  public GraphDatabaseRule graphDatabase = new GraphDatabaseRule();
+
+  @Test
+  public void should_count_rows_after_all_match() {
+    try (Result result = execute()) {
+      assertThat(result).streaming()
+                        .allMatch(row -> ((Number) row.get("i")).longValue() > 0)
+                        .hasRowCount(10)
+                        .hasRowCount(10);
+    }
+  }
+
+  @Test
+  public void should_fail_if_rows_left_after_any_match_cannot_be_counted() {
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage("Only 2 rows have been visited by a previous assertion, " +
+                                    "the others cannot be counted");
+
+    try (Result result = execute()) {
+      assertThat(result).streaming()
+                        .anyMatch(row -> ((Number) row.get("i")).longValue() == 2)
+                        .hasRowCount(10);
+    }
+  }
+
+  @Test
+  public void should_fail_if_rows_have_already_been_visited() {
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage("The rows of the result have already been visited by a previous assertion");
+
+    try (Result result = execute()) {
+      assertThat(result).streaming()
+                        .anyMatch(row -> ((Number) row.get("i")).longValue() == 2)
+                        .noneMatch(row -> row.get("i") == null);
+    }
+  }
+
+  private Result execute() {
+    return graphDatabase.getGraphDatabaseService().execute("UNWIND range(1, 10) AS i RETURN i");
+  }
+}
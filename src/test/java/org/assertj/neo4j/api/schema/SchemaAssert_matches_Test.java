@@ -0,0 +1,134 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.schema;
+
+import org.assertj.neo4j.api.ExpectedSchema;
+import org.assertj.neo4j.api.SchemaAssert;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.schema.ConstraintDefinition;
+import org.neo4j.graphdb.schema.ConstraintType;
+import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SchemaAssert_matches_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final Schema schema = mock(Schema.class);
+
+  @Test
+  public void should_pass_if_schema_has_exactly_expected_indexes_and_constraints_reading_it_once() {
+    given_schema(new IndexDefinition[] {index("DOUGHNUT", false, "flavour"), index("BAKERY", true, "siret")},
+                 constraint(ConstraintType.UNIQUENESS, "BAKERY", "siret"),
+                 constraint(ConstraintType.NODE_PROPERTY_EXISTENCE, "BAKERY", "name"),
+                 constraint(ConstraintType.RELATIONSHIP_PROPERTY_EXISTENCE, "BAKED_IN", "since"));
+
+    Assert.assertThat(assertThat(schema).matches(ExpectedSchema.empty()
+                                                               .withRelationshipPropertyExistence("BAKED_IN", "since")
+                                                               .withNodePropertyExistence("BAKERY", "name")
+                                                               .withUniqueness("BAKERY", "siret")
+                                                               .withIndex("DOUGHNUT", "flavour")),
+                      instanceOf(SchemaAssert.class));
+    verify(schema, times(1)).getIndexes();
+    verify(schema, times(1)).getConstraints();
+  }
+
+  @Test
+  public void should_fail_if_schema_is_null() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("Expecting actual not to be null");
+
+    assertThat((Schema) null).matches(ExpectedSchema.empty());
+  }
+
+  @Test
+  public void should_fail_if_expected_schema_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The expected schema should not be null");
+
+    assertThat(schema).matches((ExpectedSchema) null);
+  }
+
+  @Test
+  public void should_fail_if_expected_index_has_no_property_key() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The property keys of the schema entry should not be empty");
+
+    ExpectedSchema.empty().withIndex("DOUGHNUT");
+  }
+
+  @Test
+  public void should_fail_reporting_missing_unexpected_and_mismatched_entries() {
+    expectedException.expect(AssertionError.class);
+    expectedException.expectMessage("but could not find:\n  <[INDEX ON :CAKE(name)]>\n" +
+                                    "found unexpected:\n  <[CONSTRAINT ON (n:BAKERY) ASSERT n.siret IS UNIQUE]>\n" +
+                                    "and found instead, on the same labels, types and property keys:\n" +
+                                    "  <{CONSTRAINT ON (n:BAKER) ASSERT n.name IS UNIQUE=INDEX ON :BAKER(name)}>");
+    given_schema(new IndexDefinition[] {index("DOUGHNUT", false, "flavour"), index("BAKER", false, "name")},
+                 constraint(ConstraintType.UNIQUENESS, "BAKERY", "siret"));
+
+    assertThat(schema).matches(ExpectedSchema.empty()
+                                             .withIndex("DOUGHNUT", "flavour")
+                                             .withUniqueness("BAKER", "name")
+                                             .withIndex("CAKE", "name"));
+  }
+
+  @Test
+  public void should_pass_if_schema_matches_itself() {
+    given_schema(new IndexDefinition[] {index("DOUGHNUT", false, "flavour", "glaze")},
+                 constraint(ConstraintType.UNIQUENESS, "BAKERY", "siret"));
+
+    assertThat(schema).matches(ExpectedSchema.of(schema));
+  }
+
+  private void given_schema(IndexDefinition[] indexes, ConstraintDefinition... constraints) {
+    when(schema.getIndexes()).thenReturn(Arrays.asList(indexes));
+    when(schema.getConstraints()).thenReturn(Arrays.asList(constraints));
+  }
+
+  private static IndexDefinition index(String label, boolean constraintIndex, String... propertyKeys) {
+    IndexDefinition index = mock(IndexDefinition.class);
+    when(index.getLabel()).thenReturn(Label.label(label));
+    when(index.getPropertyKeys()).thenReturn(Arrays.asList(propertyKeys));
+    when(index.isConstraintIndex()).thenReturn(constraintIndex);
+    return index;
+  }
+
+  private static ConstraintDefinition constraint(ConstraintType type, String labelOrType, String propertyKey) {
+    ConstraintDefinition constraint = mock(ConstraintDefinition.class);
+    when(constraint.getConstraintType()).thenReturn(type);
+    if (type == ConstraintType.RELATIONSHIP_PROPERTY_EXISTENCE) {
+      when(constraint.getRelationshipType()).thenReturn(RelationshipType.withName(labelOrType));
+    } else {
+      when(constraint.getLabel()).thenReturn(Label.label(labelOrType));
+    }
+    when(constraint.getPropertyKeys()).thenReturn(Collections.singletonList(propertyKey));
+    return constraint;
+  }
+}
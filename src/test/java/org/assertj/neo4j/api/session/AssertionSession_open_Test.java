@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.session;
+
+import org.assertj.neo4j.api.AssertionSession;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AssertionSession_open_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final GraphDatabaseService graph = mock(GraphDatabaseService.class);
+  private final Transaction transaction = mock(Transaction.class);
+  private final Node node = mock(Node.class);
+
+  @Before
+  public void given_node_with_label() {
+    when(graph.beginTx()).thenReturn(transaction);
+    when(node.getGraphDatabase()).thenReturn(graph);
+    when(node.hasLabel(Label.label("DOUGHNUT"))).thenReturn(true);
+  }
+
+  @Test
+  public void should_share_one_transaction_between_assertions() {
+    try (AssertionSession ignored = AssertionSession.open(graph)) {
+      for (int i = 0; i < 10; i++) {
+        assertThat(node).hasLabel("DOUGHNUT").doesNotHaveLabel("BROCCOLI");
+      }
+    }
+
+    verify(graph, times(1)).beginTx();
+    verify(transaction, times(1)).close();
+  }
+
+  @Test
+  public void should_open_transactions_again_once_closed() {
+    AssertionSession.open(graph).close();
+
+    assertThat(node).hasLabel("DOUGHNUT");
+
+    verify(graph, times(2)).beginTx();
+  }
+
+  @Test
+  public void should_open_transactions_on_other_graphs() {
+    GraphDatabaseService otherGraph = mock(GraphDatabaseService.class);
+    when(otherGraph.beginTx()).thenReturn(mock(Transaction.class));
+    Node otherNode = mock(Node.class);
+    when(otherNode.getGraphDatabase()).thenReturn(otherGraph);
+    when(otherNode.hasLabel(Label.label("DOUGHNUT"))).thenReturn(true);
+
+    try (AssertionSession ignored = AssertionSession.open(graph)) {
+      assertThat(otherNode).hasLabel("DOUGHNUT");
+    }
+
+    verify(otherGraph, times(1)).beginTx();
+  }
+
+  @Test
+  public void should_fail_if_graph_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    AssertionSession.open(null);
+  }
+
+  @Test
+  public void should_fail_if_session_is_already_open() {
+    expectedException.expect(IllegalStateException.class);
+
+    try (AssertionSession ignored = AssertionSession.open(graph)) {
+      AssertionSession.open(graph);
+    }
+  }
+}
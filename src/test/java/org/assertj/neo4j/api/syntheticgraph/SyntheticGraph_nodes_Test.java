@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.syntheticgraph;
+
+import org.assertj.neo4j.api.GraphFixture.FixtureNode;
+import org.assertj.neo4j.api.SyntheticGraph;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.Label;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SyntheticGraph_nodes_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void should_generate_nodes_with_consecutive_ids() {
+    List<FixtureNode> nodes = SyntheticGraph.chain(3).nodes().collect(Collectors.toList());
+
+    assertEquals(3, nodes.size());
+    assertEquals(0, nodes.get(0).getId());
+    assertEquals(2, nodes.get(2).getId());
+    assertTrue(nodes.get(0).getLabels().isEmpty());
+  }
+
+  @Test
+  public void should_draw_labels_and_properties() {
+    SyntheticGraph graph = SyntheticGraph.chain(10_000)
+                                         .withSeed(42)
+                                         .withLabel("PERSON", 1)
+                                         .withLabel("BAKER", 0.1)
+                                         .withNodeProperty("age", random -> 18 + random.nextInt(80))
+                                         .withNodeProperty("nickname", random -> null);
+
+    List<FixtureNode> nodes = graph.nodes().collect(Collectors.toList());
+
+    assertEquals(10_000, nodes.stream().filter(node -> node.getLabels().contains(Label.label("PERSON"))).count());
+    long bakers = nodes.stream().filter(node -> node.getLabels().contains(Label.label("BAKER"))).count();
+    assertTrue(bakers > 900 && bakers < 1100);
+    assertTrue(nodes.stream().allMatch(node -> (int) node.getProperties().get("age") >= 18));
+    assertTrue(nodes.stream().noneMatch(node -> node.getProperties().containsKey("nickname")));
+  }
+
+  @Test
+  public void should_generate_same_nodes_with_same_seed() {
+    SyntheticGraph graph = SyntheticGraph.chain(100)
+                                         .withSeed(42)
+                                         .withLabel("BAKER", 0.5)
+                                         .withNodeProperty("age", random -> random.nextInt(100));
+
+    assertEquals(describe(graph), describe(graph));
+  }
+
+  @Test
+  public void should_fail_if_label_is_null() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The label should not be null");
+
+    SyntheticGraph.chain(10).withLabel(null, 0.5);
+  }
+
+  private static List<String> describe(SyntheticGraph graph) {
+    return graph.nodes()
+                .map(node -> node.getId() + " " + node.getLabels() + " " + node.getProperties())
+                .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.syntheticgraph;
+
+import org.assertj.neo4j.api.GraphFixture.FixtureRelationship;
+import org.assertj.neo4j.api.SyntheticGraph;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SyntheticGraph_relationships_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Test
+  public void should_generate_chain() {
+    assertEquals(99, SyntheticGraph.chain(100).relationships().count());
+    assertEquals(0, SyntheticGraph.chain(1).relationships().count());
+  }
+
+  @Test
+  public void should_generate_tree() {
+    assertEquals(99, SyntheticGraph.tree(100, 3).relationships().count());
+  }
+
+  @Test
+  public void should_generate_erdos_renyi_graph() {
+    long relationshipCount = SyntheticGraph.erdosRenyi(1000, 0.01).withSeed(42).relationships().count();
+
+    // 4995 relationships expected, with a standard deviation of about 70
+    assertTrue(relationshipCount > 4600 && relationshipCount < 5400);
+    assertEquals(45, SyntheticGraph.erdosRenyi(10, 1).relationships().count());
+    assertEquals(0, SyntheticGraph.erdosRenyi(10, 0).relationships().count());
+  }
+
+  @Test
+  public void should_generate_barabasi_albert_graph() {
+    SyntheticGraph graph = SyntheticGraph.barabasiAlbert(10_000, 3).withSeed(42);
+
+    assertEquals(29_997, graph.relationships().count());
+    assertEquals(0, graph.relationships()
+                         .filter(relationship -> relationship.getStartNodeId() == relationship.getEndNodeId())
+                         .count());
+    assertEquals(0, SyntheticGraph.barabasiAlbert(1, 3).relationships().count());
+  }
+
+  @Test
+  public void should_generate_same_relationships_with_same_seed() {
+    SyntheticGraph graph = SyntheticGraph.barabasiAlbert(1000, 2).withSeed(42);
+
+    assertEquals(describe(graph), describe(graph));
+    assertEquals(describe(graph), describe(SyntheticGraph.barabasiAlbert(1000, 2).withSeed(42)));
+  }
+
+  @Test
+  public void should_fail_if_probability_is_not_between_0_and_1() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The probability should be between 0 and 1.");
+
+    SyntheticGraph.erdosRenyi(10, 1.5);
+  }
+
+  @Test
+  public void should_fail_if_node_count_is_negative() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The node count should be positive.");
+
+    SyntheticGraph.chain(-1);
+  }
+
+  private static List<String> describe(SyntheticGraph graph) {
+    return graph.relationships().map(SyntheticGraph_relationships_Test::describe).collect(Collectors.toList());
+  }
+
+  private static String describe(FixtureRelationship relationship) {
+    return relationship.getStartNodeId() + "->" + relationship.getEndNodeId();
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2013-2020 the original author or authors.
+ */
+package org.assertj.neo4j.api.syntheticgraph;
+
+import org.assertj.neo4j.api.GraphDatabaseRule;
+import org.assertj.neo4j.api.SyntheticGraph;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.neo4j.graphdb.GraphDatabaseService;
+
+import static org.assertj.neo4j.api.Assertions.assertThat;
+
+public class SyntheticGraph_writeTo_Test {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  @Rule
+  public GraphDatabaseRule graphDatabase = new GraphDatabaseRule(GraphDatabaseRule.Isolation.CLEANUP);
+
+  @Test
+  public void should_write_graph_in_batched_transactions() {
+    GraphDatabaseService graph = graphDatabase.getGraphDatabaseService();
+
+    SyntheticGraph.tree(1000, 2)
+                  .withLabel("DOUGHNUT", 1)
+                  .withRelationshipType("TOPPED_WITH")
+                  .withNodeProperty("weight", random -> random.nextInt(100))
+                  .writeTo(graph, 100);
+
+    assertThat(graph).hasNodeCount("DOUGHNUT", 1000)
+                     .hasRelationshipCount("DOUGHNUT", "TOPPED_WITH", null, 999);
+    assertThat(graph).nodesWithLabel("DOUGHNUT").allHavePropertyKey("weight");
+  }
+
+  @Test
+  public void should_fail_if_batch_size_is_not_strictly_positive() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("The batch size should be strictly positive.");
+
+    SyntheticGraph.chain(10).writeTo(graphDatabase.getGraphDatabaseService(), 0);
+  }
+}